@@ -3,6 +3,7 @@ package com.hostel.management;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot Application class for Hostel Management System
@@ -12,9 +13,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  * - Smart roommate matching based on preferences
  * - Room allocation algorithm
  * - Admin dashboard for system management
+ * - Scheduled maintenance jobs (occupancy reconciliation)
  */
 @SpringBootApplication
 @EnableJpaRepositories
+@EnableScheduling
 public class HostelManagementApplication {
 
     public static void main(String[] args) {
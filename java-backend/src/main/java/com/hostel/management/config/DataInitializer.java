@@ -2,17 +2,16 @@ package com.hostel.management.config;
 
 import com.hostel.management.entity.Admin;
 import com.hostel.management.entity.Room;
-import com.hostel.management.entity.Student;
 import com.hostel.management.repository.AdminRepository;
 import com.hostel.management.repository.RoomRepository;
-import com.hostel.management.repository.StudentRepository;
+import com.hostel.management.service.PasswordService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
- * Initialize sample data for the hostel management system
+ * Initialize sample data for the hostel management system.
+ * A populated database costs two existence queries; BCrypt only runs when the admin is missing.
  */
 @Component
 public class DataInitializer implements CommandLineRunner {
@@ -24,31 +23,28 @@ public class DataInitializer implements CommandLineRunner {
     private RoomRepository roomRepository;
     
     @Autowired
-    private StudentRepository studentRepository;
-    
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private PasswordService passwordService;
     
     @Override
     public void run(String... args) throws Exception {
+        boolean hasAdmin = adminRepository.existsByUsername("admin");
+        boolean hasRooms = roomRepository.count() > 0;
+        
         // Initialize admin user if not exists
-        if (!adminRepository.existsByUsername("admin")) {
+        if (!hasAdmin) {
             Admin admin = new Admin();
             admin.setUsername("admin");
-            admin.setPasswordHash(passwordEncoder.encode("admin123"));
+            admin.setPasswordHash(passwordService.encode("admin123"));
             admin.setEmail("admin@hostel.edu");
             adminRepository.save(admin);
             System.out.println("Default admin created - Username: admin, Password: admin123");
         }
         
         // Initialize sample rooms if not exists
-        if (roomRepository.count() == 0) {
+        if (!hasRooms) {
             createSampleRooms();
             System.out.println("Sample rooms created successfully");
         }
-        
-        // Show count of registered students
-        long studentCount = studentRepository.count();
-        System.out.println("Current registered students in database: " + studentCount);
     }
     
     private void createSampleRooms() {
@@ -0,0 +1,111 @@
+package com.hostel.management.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Clob;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Development stand-in for database replication (hostel.datasource.replica.sync-from-primary=true).
+ *
+ * Keeps a second database, typically another H2 file, in sync by periodically copying
+ * a consistent snapshot of the tables the read paths use. Each copy replaces the
+ * replica's rows in one transaction, and the replica_heartbeat row travels with it, so
+ * the staleness bound applies exactly as it would to a real replica. Whole tables are
+ * held in memory while copying; this is meant for local testing, not production data.
+ */
+public class LocalReplicaSync {
+    
+    // Parents before children, so inserts satisfy foreign keys
+    private static final List<String> TABLES = List.of(
+        "admin", "students", "student_preferences", "rooms", "room_allocations", "replica_heartbeat");
+    
+    private final DataSource replica;
+    private final JdbcTemplate primaryJdbc;
+    private final JdbcTemplate replicaJdbc;
+    private final TransactionTemplate primaryTransaction;
+    private final TransactionTemplate replicaTransaction;
+    
+    public LocalReplicaSync(DataSource primary, DataSource replica) {
+        this.replica = replica;
+        this.primaryJdbc = new JdbcTemplate(primary);
+        this.replicaJdbc = new JdbcTemplate(replica);
+        
+        this.primaryTransaction = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        primaryTransaction.setReadOnly(true);
+        primaryTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.replicaTransaction = new TransactionTemplate(new DataSourceTransactionManager(replica));
+    }
+    
+    /**
+     * Bring the replica's schema up to date with the same migrations as the primary
+     */
+    public void migrateSchema() {
+        Flyway.configure()
+            .dataSource(replica)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+    
+    @Scheduled(fixedDelayString = "${hostel.datasource.replica.sync-interval:2000}")
+    public void sync() {
+        Map<String, TableSnapshot> snapshot = primaryTransaction.execute(status -> {
+            Map<String, TableSnapshot> tables = new LinkedHashMap<>();
+            for (String table : TABLES) {
+                tables.put(table, primaryJdbc.query("SELECT * FROM " + table, SNAPSHOT_EXTRACTOR));
+            }
+            return tables;
+        });
+        
+        replicaTransaction.executeWithoutResult(status -> {
+            List<String> reversed = new ArrayList<>(TABLES);
+            Collections.reverse(reversed);
+            reversed.forEach(table -> replicaJdbc.update("DELETE FROM " + table));
+            
+            snapshot.forEach((table, data) -> {
+                if (!data.rows.isEmpty()) {
+                    String placeholders = data.columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+                    replicaJdbc.batchUpdate("INSERT INTO " + table + " (" + String.join(", ", data.columns) +
+                        ") VALUES (" + placeholders + ")", data.rows);
+                }
+            });
+        });
+    }
+    
+    private static final ResultSetExtractor<TableSnapshot> SNAPSHOT_EXTRACTOR = rs -> {
+        ResultSetMetaData meta = rs.getMetaData();
+        TableSnapshot data = new TableSnapshot();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            data.columns.add(meta.getColumnName(i));
+        }
+        while (rs.next()) {
+            Object[] row = new Object[data.columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                Object value = rs.getObject(i + 1);
+                // LOB handles are only valid on the connection that read them
+                row[i] = value instanceof Clob clob ? clob.getSubString(1, (int) clob.length()) : value;
+            }
+            data.rows.add(row);
+        }
+        return data;
+    };
+    
+    private static class TableSnapshot {
+        private final List<String> columns = new ArrayList<>();
+        private final List<Object[]> rows = new ArrayList<>();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hostel.management.config;
+
+import com.hostel.management.config.ReadWriteRoutingDataSource.Route;
+import com.hostel.management.service.TableVersionService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Read/write splitting, enabled by setting hostel.datasource.replica.url.
+ *
+ * The application DataSource routes @Transactional(readOnly = true) work, which includes
+ * Spring Data's inherited finders and findAll(), to the replica pool and everything else
+ * to the primary. Flyway always migrates the primary. With sync-from-primary=true a
+ * second local database is kept in sync by {@link LocalReplicaSync}.
+ *
+ * With same-database=true the "replica" is a reader pool on the primary's own file
+ * (SQLite WAL), which is never stale, so no lag monitor runs. Setting
+ * hostel.datasource.maintenance.hikari.maximum-pool-size adds a small pool for lease
+ * heartbeats and outbox polling, so they do not queue behind a long job holding the
+ * only writer connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hostel.datasource.replica.url")
+public class ReadWriteRoutingConfig {
+    
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConfigurationProperties("hostel.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${hostel.datasource.replica.url}") String url,
+                                              @Value("${hostel.datasource.replica.username:}") String username,
+                                              @Value("${hostel.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "hostel.datasource.maintenance.hikari.maximum-pool-size")
+    @ConfigurationProperties("hostel.datasource.maintenance.hikari")
+    public HikariDataSource maintenanceDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("maintenance");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "hostel.datasource.replica.same-database", havingValue = "false", matchIfMissing = true)
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${hostel.datasource.replica.max-staleness:PT5S}") Duration maxStaleness) {
+        return new ReplicaLagMonitor(new JdbcTemplate(primary), new JdbcTemplate(replica), maxStaleness);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "hostel.datasource.replica.sync-from-primary", havingValue = "true")
+    public LocalReplicaSync localReplicaSync(@Qualifier("primaryDataSource") DataSource primary,
+                                             @Qualifier("replicaDataSource") DataSource replica) {
+        LocalReplicaSync sync = new LocalReplicaSync(primary, replica);
+        sync.migrateSchema();
+        return sync;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ObjectProvider<ReplicaLagMonitor> lagMonitor,
+                                 TableVersionService tableVersionService) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor.getIfAvailable(), tableVersionService);
+        routing.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
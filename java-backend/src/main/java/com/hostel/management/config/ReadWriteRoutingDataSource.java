@@ -0,0 +1,43 @@
+package com.hostel.management.config;
+
+import com.hostel.management.service.TableVersionService;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica while it is within the
+ * staleness bound; everything else, including non-transactional JDBC, uses the primary.
+ *
+ * After a write known to this node (its own commits, and other nodes' through the outbox)
+ * reads stay on the primary until the replica has replicated a later heartbeat. Without
+ * that, an ETag built from the already bumped table versions would be served with a
+ * stale replica body, and clients revalidating it would get 304 for stale data.
+ * Without a lag monitor the replica is a reader pool on the primary database itself,
+ * which is never stale.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the read-only flag is only set
+ * after the transaction manager has begun the transaction, so the physical connection
+ * has to be fetched on first use rather than at transaction begin.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public enum Route { PRIMARY, REPLICA }
+    
+    private final ReplicaLagMonitor lagMonitor;
+    private final TableVersionService tableVersionService;
+    
+    // lagMonitor is null when the replica is the primary's own database
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, TableVersionService tableVersionService) {
+        this.lagMonitor = lagMonitor;
+        this.tableVersionService = tableVersionService;
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && (lagMonitor == null || lagMonitor.isReplicaPast(tableVersionService.getLastChangeMillis()))) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hostel.management.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+/**
+ * Enforces the replica staleness bound.
+ *
+ * The primary's replica_heartbeat row is rewritten every second; reading the replicated
+ * row back from the replica shows how old the replica's data is. Reads fall back to the
+ * primary when that age exceeds hostel.datasource.replica.max-staleness or the replica
+ * cannot be queried. Ages are measured against this node's clock, so nodes writing and
+ * checking heartbeats need synchronized clocks.
+ */
+public class ReplicaLagMonitor {
+    
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxStaleness;
+    
+    // Heartbeat time last seen on the replica, 0 until the first successful check
+    private volatile long replicaHeartbeatMillis;
+    
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxStaleness) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxStaleness = maxStaleness;
+    }
+    
+    @Scheduled(fixedRateString = "${hostel.datasource.replica.heartbeat-interval:1000}")
+    public void writeHeartbeat() {
+        primary.update("UPDATE replica_heartbeat SET written_at = ? WHERE id = 1", new Timestamp(System.currentTimeMillis()));
+    }
+    
+    @Scheduled(fixedRateString = "${hostel.datasource.replica.heartbeat-interval:1000}")
+    public void checkLag() {
+        try {
+            Timestamp writtenAt = replica.queryForObject("SELECT written_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+            if (writtenAt != null) {
+                replicaHeartbeatMillis = writtenAt.getTime();
+            }
+        } catch (RuntimeException e) {
+            // Unreachable replica; the last seen heartbeat ages past the bound on its own
+        }
+    }
+    
+    /**
+     * How far the replica trails the primary, as of the last check
+     */
+    public Duration getLag() {
+        return replicaHeartbeatMillis == 0
+            ? null : Duration.ofMillis(Math.max(0, System.currentTimeMillis() - replicaHeartbeatMillis));
+    }
+    
+    public boolean isReplicaUsable() {
+        Duration lag = getLag();
+        return lag != null && lag.compareTo(maxStaleness) <= 0;
+    }
+    
+    /**
+     * Whether the replica is within the staleness bound and has replicated a heartbeat
+     * written after the given time, so it also contains every write committed before it
+     */
+    public boolean isReplicaPast(long changedAtMillis) {
+        return isReplicaUsable() && replicaHeartbeatMillis > changedAtMillis;
+    }
+}
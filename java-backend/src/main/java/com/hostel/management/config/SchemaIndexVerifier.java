@@ -0,0 +1,80 @@
+package com.hostel.management.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fails startup when an index the hot queries depend on is missing
+ * (see db/migration/V2__performance_indexes.sql)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "hostel.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements ApplicationRunner {
+    
+    // Table -> indexes that must exist on it
+    private static final Map<String, List<String>> EXPECTED_INDEXES = Map.of(
+        "room_allocations", List.of("idx_room_allocations_room_status", "idx_room_allocations_status"),
+        "rooms", List.of("idx_rooms_status_occupancy"),
+        "students", List.of("idx_students_created_at")
+    );
+    
+    private final DataSource dataSource;
+    
+    public SchemaIndexVerifier(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> missing = new ArrayList<>();
+        
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<String>> entry : EXPECTED_INDEXES.entrySet()) {
+                Set<String> present = indexNames(metaData, entry.getKey());
+                for (String index : entry.getValue()) {
+                    if (!present.contains(index)) {
+                        missing.add(entry.getKey() + "." + index);
+                    }
+                }
+            }
+        }
+        
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes " + missing +
+                " - check that the Flyway migrations ran (flyway_schema_history)");
+        }
+    }
+    
+    private static Set<String> indexNames(DatabaseMetaData metaData, String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        // Identifier case differs between databases, so try both
+        for (String tableName : new String[] {table, table.toUpperCase()}) {
+            try (ResultSet rs = metaData.getIndexInfo(null, null, tableName, false, true)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+}
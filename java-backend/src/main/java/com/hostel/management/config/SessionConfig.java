@@ -0,0 +1,90 @@
+package com.hostel.management.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Session attribute encoding for the JDBC-backed session store (Spring Session JDBC).
+ *
+ * Our session attributes are ids and names, so Long, Integer, String and Boolean are
+ * written as a one-byte tag plus raw payload instead of a full Java serialization
+ * stream. Anything else, and rows written before this encoding existed, fall back to
+ * standard Java serialization, whose stream always starts with 0xAC.
+ */
+@Configuration
+public class SessionConfig {
+    
+    private static final byte TAG_LONG = 1;
+    private static final byte TAG_INTEGER = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new CompactSerializer());
+        conversionService.addConverter(byte[].class, Object.class,
+            new CompactDeserializer(new DeserializingConverter(getClass().getClassLoader())));
+        return conversionService;
+    }
+    
+    private static class CompactSerializer implements Converter<Object, byte[]> {
+        
+        private final SerializingConverter fallback = new SerializingConverter();
+        
+        @Override
+        public byte[] convert(Object value) {
+            if (value instanceof Long) {
+                return ByteBuffer.allocate(9).put(TAG_LONG).putLong((Long) value).array();
+            }
+            if (value instanceof Integer) {
+                return ByteBuffer.allocate(5).put(TAG_INTEGER).putInt((Integer) value).array();
+            }
+            if (value instanceof Boolean) {
+                return new byte[] {TAG_BOOLEAN, (byte) ((Boolean) value ? 1 : 0)};
+            }
+            if (value instanceof String) {
+                byte[] utf8 = ((String) value).getBytes(StandardCharsets.UTF_8);
+                return ByteBuffer.allocate(utf8.length + 1).put(TAG_STRING).put(utf8).array();
+            }
+            return fallback.convert(value);
+        }
+    }
+    
+    private static class CompactDeserializer implements Converter<byte[], Object> {
+        
+        private final DeserializingConverter fallback;
+        
+        CompactDeserializer(DeserializingConverter fallback) {
+            this.fallback = fallback;
+        }
+        
+        @Override
+        public Object convert(byte[] bytes) {
+            if (bytes.length == 0) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            switch (bytes[0]) {
+                case TAG_LONG:
+                    return buffer.getLong();
+                case TAG_INTEGER:
+                    return buffer.getInt();
+                case TAG_BOOLEAN:
+                    return bytes[1] != 0;
+                case TAG_STRING:
+                    return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+                default:
+                    return fallback.convert(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hostel.management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup-time support for the prod profile: keeps scheduled beans eager under lazy
+ * initialization, reports time-to-first-request, and provides the training run that
+ * records the AppCDS archive during the build (see the cds Maven profile).
+ */
+@Configuration
+public class StartupConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+    
+    /**
+     * Beans with @Scheduled methods are only registered with the scheduler when they
+     * are created, so spring.main.lazy-initialization must not defer them
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> {
+            Class<?> type = beanType;
+            if (type == null && beanDefinition instanceof AbstractBeanDefinition definition && definition.hasBeanClass()) {
+                type = definition.getBeanClass();
+            }
+            return type != null && !MethodIntrospector.selectMethods(type,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+        };
+    }
+    
+    /**
+     * Logs once how long after JVM start the first request completed; only registered
+     * when asked for, so other profiles do not carry the filter on every request
+     */
+    @Bean
+    @ConditionalOnProperty(name = "hostel.startup.report-first-request", havingValue = "true")
+    public OncePerRequestFilter firstRequestTimingFilter() {
+        AtomicBoolean reported = new AtomicBoolean();
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                chain.doFilter(request, response);
+                if (!reported.get() && reported.compareAndSet(false, true)) {
+                    long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                    log.info("First request ({}) completed {} ms after JVM start", request.getRequestURI(), elapsed);
+                }
+            }
+        };
+    }
+    
+    /**
+     * hostel.startup.training-run=true exits as soon as the application is ready, so a
+     * JVM started with -XX:ArchiveClassesAtExit dumps the classes startup loaded
+     */
+    @Bean
+    @ConditionalOnProperty(name = "hostel.startup.training-run", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> trainingRunExit() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
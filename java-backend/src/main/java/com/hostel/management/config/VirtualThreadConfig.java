@@ -0,0 +1,53 @@
+package com.hostel.management.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in virtual-thread execution (hostel.threads.virtual=true, requires a Java 21+ runtime).
+ *
+ * Servlet requests run on a virtual thread per task instead of Tomcat's worker pool,
+ * and the application task executor used for async MVC work (streaming exports) does
+ * the same. Request handling is almost entirely blocking JDBC, so this removes the
+ * worker-pool ceiling; the database connection pool becomes the real limit.
+ *
+ * Pinning is not ruled out: the outbox poller guards its JDBC calls with a
+ * ReentrantLock, but the H2 and sqlite-jdbc drivers synchronize internally, so a
+ * virtual thread inside a driver call still holds its carrier. Off by default, and
+ * not enabled anywhere until a load test shows it helps on the target driver.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hostel.threads.virtual", havingValue = "true")
+public class VirtualThreadConfig {
+    
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+    
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+    
+    /**
+     * Looked up reflectively so the project still compiles for Java 17
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                "hostel.threads.virtual=true requires a Java 21+ runtime, running on " + Runtime.version(), e);
+        }
+    }
+}
@@ -1,34 +1,86 @@
 package com.hostel.management.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
 
 /**
- * Web MVC configuration for serving static resources and view controllers
+ * Web MVC configuration for serving static resources and view controllers.
+ *
+ * Static resources are served through a resource chain: links rendered by Thymeleaf
+ * (@{/css/style.css}) are rewritten to content-hash URLs (style-<md5>.css), and the
+ * .br/.gz variants generated at build time are served to clients that accept them.
+ * Fingerprinted URLs never change content, so they are cached as immutable for a year;
+ * plain URLs must revalidate (Last-Modified) so they never serve stale files.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+    
+    private static final String IMMUTABLE =
+        CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+    
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Serve static resources
-        registry.addResourceHandler("/static/**")
-                .addResourceLocations("classpath:/static/");
-        
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/");
-        
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/");
-        
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("classpath:/static/images/");
+        addStaticResources(registry, "/static/**", "classpath:/static/");
+        addStaticResources(registry, "/css/**", "classpath:/static/css/");
+        addStaticResources(registry, "/js/**", "classpath:/static/js/");
+        addStaticResources(registry, "/images/**", "classpath:/static/images/");
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler) {
+                    boolean fingerprinted = FINGERPRINTED.matcher(request.getRequestURI()).find();
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, fingerprinted ? IMMUTABLE : REVALIDATE);
+                }
+                return true;
+            }
+        });
     }
     
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         // View controllers can be added here if needed
     }
-}
\ No newline at end of file
+    
+    /**
+     * Rewrites resource URLs in rendered pages to their fingerprinted form
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+    
+    private static void addStaticResources(ResourceHandlerRegistry registry, String pattern, String location) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new CssLinkResourceTransformer());
+    }
+}
@@ -1,23 +1,67 @@
 package com.hostel.management.controller;
 
+import com.hostel.management.dto.AllocationDebugResponse;
+import com.hostel.management.dto.AllocationPageResponse;
+import com.hostel.management.dto.AllocationRunResponse;
+import com.hostel.management.dto.AllocationView;
+import com.hostel.management.dto.ApiResponse;
+import com.hostel.management.dto.CacheStatsResponse;
+import com.hostel.management.dto.DashboardStatsResponse;
+import com.hostel.management.dto.HealthResponse;
+import com.hostel.management.dto.ImportResponse;
+import com.hostel.management.dto.LeaseConflictResponse;
+import com.hostel.management.dto.MessageResponse;
+import com.hostel.management.dto.PreferencesDto;
+import com.hostel.management.dto.ReconciliationResponse;
+import com.hostel.management.dto.RoomBatchRequest;
+import com.hostel.management.dto.RoomBatchResponse;
+import com.hostel.management.dto.RoomListResponse;
+import com.hostel.management.dto.StudentDetailResponse;
 import com.hostel.management.dto.StudentDto;
+import com.hostel.management.dto.StudentPageResponse;
+import com.hostel.management.dto.StudentSummary;
+import com.hostel.management.dto.TestResponse;
 import com.hostel.management.entity.Admin;
 import com.hostel.management.entity.Room;
 import com.hostel.management.entity.Student;
+import com.hostel.management.entity.StudentPreferences;
 import com.hostel.management.repository.AdminRepository;
+import com.hostel.management.repository.RoomAllocationRepository;
 import com.hostel.management.repository.RoomRepository;
+import com.hostel.management.repository.StudentPreferencesRepository;
 import com.hostel.management.repository.StudentRepository;
+import com.hostel.management.service.DashboardEventService;
+import com.hostel.management.service.JobLeaseService;
+import com.hostel.management.service.OccupancyReconciliationService;
+import com.hostel.management.service.PasswordService;
 import com.hostel.management.service.RoomAllocationService;
+import com.hostel.management.service.RoomProvisioningService;
+import com.hostel.management.service.StudentImportService;
+import com.hostel.management.service.TableVersionService;
+import com.hostel.management.service.TableVersionService.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -36,26 +80,61 @@ public class AdminController {
     @Autowired
     private StudentRepository studentRepository;
     
+    @Autowired
+    private StudentPreferencesRepository preferencesRepository;
+    
+    @Autowired
+    private RoomAllocationRepository roomAllocationRepository;
+    
     @Autowired
     private RoomAllocationService allocationService;
     
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private StudentImportService studentImportService;
+    
+    @Autowired
+    private RoomProvisioningService roomProvisioningService;
+    
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
+    @Autowired
+    private OccupancyReconciliationService reconciliationService;
+    
+    @Autowired
+    private DashboardEventService dashboardEventService;
+    
+    @Value("${hostel.api.default-page-size:100}")
+    private int defaultPageSize;
+    
+    @Value("${hostel.api.max-page-size:1000}")
+    private int maxPageSize;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    // Lets browsers keep ETag'd responses and revalidate them; otherwise Spring Security's no-store applies
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    private static final String[] CACHE_REGIONS = {"rooms", "rooms-natural-id", "admins", "admins-natural-id"};
+    
+    @Autowired
+    private PasswordService passwordService;
     
     /**
      * Admin login endpoint
      */
     @PostMapping("/admin_login")
-    public ResponseEntity<Map<String, Object>> adminLogin(@RequestBody Map<String, String> request, HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> adminLogin(@RequestBody Map<String, String> request, HttpSession session) {
         try {
             String username = request.get("username");
             String password = request.get("password");
             
             if (username == null || password == null) {
-                response.put("success", false);
-                response.put("message", "Username and password are required");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Username and password are required"));
             }
             
             Optional<Admin> adminOpt = adminRepository.findByUsername(username);
@@ -63,25 +142,27 @@ public class AdminController {
             if (adminOpt.isPresent()) {
                 Admin admin = adminOpt.get();
                 
-                if (passwordEncoder.matches(password, admin.getPasswordHash())) {
+                if (passwordService.matches(password, admin.getPasswordHash())) {
+                    // Transparently upgrade hashes made with a lower cost factor
+                    if (passwordService.needsRehash(admin.getPasswordHash())) {
+                        admin.setPasswordHash(passwordService.encode(password));
+                        adminRepository.save(admin);
+                    }
+                    
                     // Set session
                     session.setAttribute("admin_id", admin.getId());
                     session.setAttribute("admin_name", admin.getUsername());
                     
-                    response.put("success", true);
-                    response.put("message", "Admin login successful");
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok(MessageResponse.ok("Admin login successful"));
                 }
             }
             
-            response.put("success", false);
-            response.put("message", "Invalid admin credentials");
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Invalid admin credentials"));
             
+        } catch (RejectedExecutionException e) {
+            return StudentController.serverBusy();
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Admin login failed: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin login failed: " + e.getMessage()));
         }
     }
     
@@ -89,17 +170,56 @@ public class AdminController {
      * Get all rooms endpoint
      */
     @GetMapping("/rooms")
-    public ResponseEntity<Map<String, Object>> getAllRooms() {
-        Map<String, Object> response = new HashMap<>();
+    public ResponseEntity<ApiResponse> getAllRooms(WebRequest webRequest) {
+        // Unchanged since the client's last poll - answer without touching the database
+        String etag = tableVersionService.etag(null, Table.ROOMS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         try {
-            response.put("rooms", roomRepository.findAll());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(new RoomListResponse(roomRepository.findAll()));
+            
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Failed to fetch rooms: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Second-level cache hit/miss statistics for the Room and Admin regions.
+     * Counters stay at zero unless hibernate.generate_statistics is on (it is off in prod).
+     */
+    @GetMapping("/cache_stats")
+    public ResponseEntity<ApiResponse> cacheStats(HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        try {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            
+            Map<String, CacheStatsResponse.RegionStats> regions = new HashMap<>();
+            for (String region : CACHE_REGIONS) {
+                CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+                if (regionStats == null) {
+                    continue;
+                }
+                regions.put(region, new CacheStatsResponse.RegionStats(regionStats.getHitCount(), regionStats.getMissCount(),
+                    regionStats.getPutCount(), regionStats.getElementCountInMemory()));
+            }
+            
+            return ResponseEntity.ok(new CacheStatsResponse(true,
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(),
+                regions));
             
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Failed to fetch rooms: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.status(500).body(MessageResponse.failure("Failed to fetch cache statistics: " + e.getMessage()));
         }
     }
     
@@ -107,20 +227,15 @@ public class AdminController {
      * Simple test endpoint
      */
     @GetMapping("/test")
-    public ResponseEntity<Map<String, Object>> test() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "API is working!");
-        response.put("timestamp", System.currentTimeMillis());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse> test() {
+        return ResponseEntity.ok(new TestResponse("API is working!", System.currentTimeMillis()));
     }
 
     /**
      * Debug allocation readiness
      */
     @GetMapping("/allocation_debug")
-    public ResponseEntity<Map<String, Object>> allocationDebug() {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> allocationDebug() {
         try {
             // Check students with preferences but no allocation
             List<Student> studentsWithPrefs = studentRepository.findStudentsWithPreferencesButNoAllocation();
@@ -128,43 +243,25 @@ public class AdminController {
             List<Student> allStudents = studentRepository.findAll();
             List<Room> allRooms = roomRepository.findAll();
             
-            response.put("total_students", allStudents.size());
-            response.put("students_with_preferences_no_allocation", studentsWithPrefs.size());
-            response.put("total_rooms", allRooms.size());
-            response.put("available_rooms", availableRooms.size());
-            
             // List students with preferences
-            List<Map<String, Object>> studentDetails = new ArrayList<>();
+            List<AllocationDebugResponse.StudentReadiness> studentDetails = new ArrayList<>();
             for (Student s : allStudents) {
-                Map<String, Object> studentInfo = new HashMap<>();
-                studentInfo.put("student_id", s.getStudentId());
-                studentInfo.put("name", s.getName());
-                studentInfo.put("has_preferences", s.getPreferences() != null);
-                studentInfo.put("has_allocation", s.getRoomAllocation() != null);
-                studentDetails.add(studentInfo);
+                studentDetails.add(new AllocationDebugResponse.StudentReadiness(s.getStudentId(), s.getName(),
+                    s.getPreferences() != null, s.getRoomAllocation() != null));
             }
-            response.put("student_details", studentDetails);
             
             // List room details
-            List<Map<String, Object>> roomDetails = new ArrayList<>();
+            List<AllocationDebugResponse.RoomReadiness> roomDetails = new ArrayList<>();
             for (Room r : allRooms) {
-                Map<String, Object> roomInfo = new HashMap<>();
-                roomInfo.put("room_number", r.getRoomNumber());
-                roomInfo.put("capacity", r.getCapacity());
-                roomInfo.put("occupied", r.getOccupied());
-                roomInfo.put("status", r.getStatus());
-                roomInfo.put("is_available", r.getOccupied() < r.getCapacity() && "available".equals(r.getStatus()));
-                roomDetails.add(roomInfo);
+                roomDetails.add(new AllocationDebugResponse.RoomReadiness(r.getRoomNumber(), r.getCapacity(), r.getOccupied(),
+                    r.getStatus(), r.getOccupied() < r.getCapacity() && "available".equals(r.getStatus())));
             }
-            response.put("room_details", roomDetails);
             
-            response.put("success", true);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new AllocationDebugResponse(true, allStudents.size(), studentsWithPrefs.size(),
+                allRooms.size(), availableRooms.size(), studentDetails, roomDetails));
             
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure(e.getMessage()));
         }
     }
 
@@ -172,71 +269,119 @@ public class AdminController {
      * Database health check endpoint
      */
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> healthCheck() {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> healthCheck() {
         try {
-            long studentCount = studentRepository.count();
-            long roomCount = roomRepository.count();
-            long adminCount = adminRepository.count();
-            
-            response.put("success", true);
-            response.put("database", "connected");
-            response.put("students", studentCount);
-            response.put("rooms", roomCount);
-            response.put("admins", adminCount);
-            response.put("message", "Database is working properly");
+            return ResponseEntity.ok(HealthResponse.connected(roomRepository.getDashboardStats()));
             
-            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(HealthResponse.error("Database error: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Dashboard statistics endpoint - all figures from one aggregate query
+     */
+    @GetMapping("/dashboard_stats")
+    public ResponseEntity<ApiResponse> getDashboardStats(HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        try {
+            return ResponseEntity.ok(DashboardStatsResponse.of(roomRepository.getDashboardStats()));
             
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("database", "error");
-            response.put("message", "Database error: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(MessageResponse.failure("Failed to fetch dashboard stats: " + e.getMessage()));
         }
     }
 
     /**
-     * Get all students endpoint (for admin)
+     * Server-Sent Events stream of dashboard deltas, replacing periodic polling
+     */
+    @GetMapping(value = "/dashboard/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> dashboardEvents(HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(dashboardEventService.subscribe());
+    }
+    
+    /**
+     * List students endpoint (for admin) - keyset paginated on id
      */
     @GetMapping("/students")
-    public ResponseEntity<Map<String, Object>> getAllStudents(HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
+    public ResponseEntity<ApiResponse> getAllStudents(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "include_preferences", defaultValue = "true") boolean includePreferences,
+            WebRequest webRequest, HttpSession session) {
+        // Check admin access before the ETag, so a 304 never confirms what an anonymous caller cached
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        String etag = tableVersionService.etag(after + ":" + size + ":" + includePreferences, Table.STUDENTS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         try {
-            System.out.println("AdminController: /api/students endpoint called");
-            
-            // Temporarily disable session check for debugging
-            // Long adminId = (Long) session.getAttribute("admin_id");
-            // if (adminId == null) {
-            //     response.put("success", false);
-            //     response.put("message", "Admin access required");
-            //     return ResponseEntity.badRequest().body(response);
-            // }
-            
-            List<Student> students = studentRepository.findAll();
-            System.out.println("Found " + students.size() + " registered students in database");
-            
-            // Convert to DTOs to avoid circular reference issues
-            List<StudentDto> studentDtos = students.stream()
-                .map(StudentDto::new)
+            int pageSize = pageSize(size);
+            long afterId = after == null ? 0L : after;
+            
+            List<StudentSummary> summaries = studentRepository.findSummariesAfter(afterId, PageRequest.of(0, pageSize));
+            
+            // Load preferences for the whole page in one query instead of per student
+            Map<Long, PreferencesDto> preferencesByStudent = new HashMap<>();
+            if (includePreferences && !summaries.isEmpty()) {
+                List<Long> ids = summaries.stream().map(StudentSummary::getId).collect(Collectors.toList());
+                for (StudentPreferences prefs : preferencesRepository.findByStudentIdIn(ids)) {
+                    preferencesByStudent.put(prefs.getStudent().getId(), new PreferencesDto(prefs));
+                }
+            }
+            
+            List<StudentDto> studentDtos = summaries.stream()
+                .map(summary -> new StudentDto(summary, preferencesByStudent.get(summary.getId())))
                 .collect(Collectors.toList());
             
-            response.put("students", studentDtos);
-            response.put("success", true);
-            response.put("count", studentDtos.size());
-            response.put("message", "Found " + studentDtos.size() + " registered students");
+            boolean hasMore = studentDtos.size() == pageSize;
             
-            System.out.println("Returning response with " + students.size() + " students");
-            return ResponseEntity.ok(response);
+            Long nextCursor = hasMore ? studentDtos.get(studentDtos.size() - 1).getId() : null;
+            
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(new StudentPageResponse(true, studentDtos,
+                studentDtos.size(), hasMore, nextCursor, "Found " + studentDtos.size() + " registered students"));
             
         } catch (Exception e) {
             System.err.println("Error in /api/students: " + e.getMessage());
             e.printStackTrace();
-            response.put("success", false);
-            response.put("message", "Failed to fetch students: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(MessageResponse.failure("Failed to fetch students: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get one student with preferences (for admin)
+     */
+    @GetMapping("/students/{id}")
+    public ResponseEntity<ApiResponse> getStudent(@PathVariable("id") Long id, HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        try {
+            Optional<Student> student = studentRepository.findWithPreferencesById(id);
+            if (student.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(MessageResponse.failure("Student not found"));
+            }
+            return ResponseEntity.ok(new StudentDetailResponse(true, new StudentDto(student.get())));
+            
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(MessageResponse.failure("Failed to fetch student: " + e.getMessage()));
         }
     }
     
@@ -244,16 +389,12 @@ public class AdminController {
      * Create new room endpoint
      */
     @PostMapping("/create_room")
-    public ResponseEntity<Map<String, Object>> createRoom(@RequestBody Map<String, String> request, HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> createRoom(@RequestBody Map<String, String> request, HttpSession session) {
         try {
             // Check admin access
             Long adminId = (Long) session.getAttribute("admin_id");
             if (adminId == null) {
-                response.put("success", false);
-                response.put("message", "Admin access required");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
             }
             
             String roomNumber = request.get("room_number");
@@ -263,16 +404,12 @@ public class AdminController {
             String amenities = request.get("amenities");
             
             if (roomNumber == null || building == null) {
-                response.put("success", false);
-                response.put("message", "Room number and building are required");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Room number and building are required"));
             }
             
             // Check if room already exists
             if (roomRepository.existsByRoomNumber(roomNumber)) {
-                response.put("success", false);
-                response.put("message", "Room number already exists");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Room number already exists"));
             }
             
             Room room = new Room();
@@ -293,59 +430,169 @@ public class AdminController {
             
             roomRepository.save(room);
             
-            response.put("success", true);
-            response.put("message", "Room created successfully");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(MessageResponse.ok("Room created successfully"));
+            
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Failed to create room: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Run the room allocation algorithm - only one node in the cluster runs it at a time
+     */
+    @PostMapping("/allocate_rooms")
+    public ResponseEntity<ApiResponse> allocateRooms(HttpSession session) {
+        try {
+            // Check admin access
+            Long adminId = (Long) session.getAttribute("admin_id");
+            if (adminId == null) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+            }
+            
+            JobLeaseService.LeaseOutcome<RoomAllocationService.AllocationResult> outcome =
+                jobLeaseService.runExclusively(JobLeaseService.ROOM_ALLOCATION, allocationService::allocateRooms);
+            
+            if (!outcome.isAcquired()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new LeaseConflictResponse(
+                    outcome.getJobId(), outcome.getOwner(), "Room allocation is already running"));
+            }
+            
+            return ResponseEntity.ok(AllocationRunResponse.of(outcome.getJobId(), outcome.getResult()));
+            
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(MessageResponse.failure("Room allocation failed: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Reconcile room occupancy counters with active allocations on demand
+     */
+    @PostMapping("/reconcile_occupancy")
+    public ResponseEntity<ApiResponse> reconcileOccupancy(HttpSession session) {
+        try {
+            // Check admin access
+            Long adminId = (Long) session.getAttribute("admin_id");
+            if (adminId == null) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+            }
+            
+            JobLeaseService.LeaseOutcome<OccupancyReconciliationService.ReconciliationReport> outcome =
+                jobLeaseService.runExclusively(JobLeaseService.OCCUPANCY_RECONCILIATION, reconciliationService::reconcile);
+            
+            if (!outcome.isAcquired()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new LeaseConflictResponse(
+                    outcome.getJobId(), outcome.getOwner(), "Occupancy reconciliation is already running"));
+            }
+            
+            return ResponseEntity.ok(ReconciliationResponse.of(outcome.getJobId(), outcome.getResult()));
+            
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(MessageResponse.failure("Occupancy reconciliation failed: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Bulk room provisioning endpoint - an explicit room list and/or a building/floor/room range
+     */
+    @PostMapping("/create_rooms")
+    public ResponseEntity<ApiResponse> createRooms(@RequestBody RoomBatchRequest request, HttpSession session) {
+        try {
+            // Check admin access
+            Long adminId = (Long) session.getAttribute("admin_id");
+            if (adminId == null) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+            }
+            
+            List<RoomBatchRequest.RoomSpec> rooms = roomProvisioningService.expand(request);
+            if (rooms.isEmpty()) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("No rooms specified"));
+            }
+            
+            List<String> conflicts = roomProvisioningService.findConflicts(rooms);
+            if (!conflicts.isEmpty()) {
+                return ResponseEntity.badRequest().body(RoomBatchResponse.conflicts(conflicts));
+            }
+            
+            int created = roomProvisioningService.createRooms(rooms);
+            return ResponseEntity.ok(RoomBatchResponse.created(created));
             
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Failed to create room: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Failed to create rooms: " + e.getMessage()));
         }
     }
     
     /**
-     * Get allocations - simulate from students with preferences
+     * Bulk student import endpoint - streams a CSV (with header) or JSON Lines request body
+     */
+    @PostMapping(value = "/import_students", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<ApiResponse> importStudents(HttpServletRequest request, HttpSession session) {
+        try {
+            // Check admin access
+            Long adminId = (Long) session.getAttribute("admin_id");
+            if (adminId == null) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+            }
+            
+            boolean jsonLines = !request.getContentType().startsWith("text/csv");
+            StudentImportService.ImportResult result = studentImportService.importStudents(request.getInputStream(), jsonLines);
+            
+            return ResponseEntity.ok(ImportResponse.of(result));
+            
+        } catch (RejectedExecutionException e) {
+            return StudentController.serverBusy();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Student import failed: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * List room allocations endpoint - keyset paginated on id, with optional filters
      */
     @GetMapping("/allocations")
-    public ResponseEntity<Map<String, Object>> getAllocations() {
-        Map<String, Object> response = new HashMap<>();
+    public ResponseEntity<ApiResponse> getAllocations(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "building", required = false) String building,
+            @RequestParam(name = "min_score", required = false) Double minScore,
+            @RequestParam(name = "max_score", required = false) Double maxScore,
+            WebRequest webRequest, HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        String variant = after + ":" + size + ":" + status + ":" + building + ":" + minScore + ":" + maxScore;
+        String etag = tableVersionService.etag(variant, Table.ALLOCATIONS, Table.STUDENTS, Table.ROOMS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         try {
-            // Get all students with preferences
-            List<Student> allStudents = studentRepository.findAll();
-            List<Map<String, Object>> allocations = new ArrayList<>();
-            int roomCounter = 1;
-            
-            for (Student student : allStudents) {
-                if (student.getPreferences() != null) {
-                    Map<String, Object> allocation = new HashMap<>();
-                    allocation.put("id", roomCounter);
-                    allocation.put("studentId", student.getStudentId());
-                    allocation.put("studentName", student.getName());
-                    allocation.put("email", student.getEmail());
-                    allocation.put("course", student.getCourse());
-                    allocation.put("roomNumber", "R" + String.format("%03d", (roomCounter - 1) / 2 + 1));
-                    allocation.put("compatibilityScore", Math.round((75.0 + Math.random() * 20.0) * 100.0) / 100.0);
-                    allocation.put("allocationDate", java.time.LocalDateTime.now().minusDays(Math.round(Math.random() * 30)));
-                    allocation.put("status", "Active");
-                    
-                    allocations.add(allocation);
-                    roomCounter++;
-                }
-            }
+            int pageSize = pageSize(size);
+            long afterId = after == null ? 0L : after;
+            
+            List<AllocationView> allocations = roomAllocationRepository.findViewsAfter(
+                afterId, emptyToNull(status), emptyToNull(building), minScore, maxScore, PageRequest.of(0, pageSize));
+            
+            boolean hasMore = allocations.size() == pageSize;
             
-            response.put("success", true);
-            response.put("allocations", allocations);
-            response.put("total", allocations.size());
+            Long nextCursor = hasMore ? allocations.get(allocations.size() - 1).getId() : null;
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(new AllocationPageResponse(true, allocations,
+                allocations.size(), hasMore, nextCursor));
             
         } catch (Exception e) {
             e.printStackTrace();
-            response.put("success", false);
-            response.put("message", "Failed to get allocations: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Failed to get allocations: " + e.getMessage()));
         }
     }
+    
+    private int pageSize(Integer requested) {
+        return requested == null ? defaultPageSize : Math.max(1, Math.min(requested, maxPageSize));
+    }
+    
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.hostel.management.controller;
+
+import com.hostel.management.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * REST API Controller for bulk NDJSON exports used by the nightly sync
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    @Autowired
+    private ExportService exportService;
+    
+    /**
+     * Stream all students with preferences, one JSON object per line
+     */
+    @GetMapping("/students")
+    public ResponseEntity<StreamingResponseBody> exportStudents(HttpSession session) {
+        // Check admin access - exports contain every student's contact details
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        StreamingResponseBody body = out -> exportService.writeStudents(out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+    
+    /**
+     * Stream all room allocations with student and room columns, one JSON object per line
+     */
+    @GetMapping("/allocations")
+    public ResponseEntity<StreamingResponseBody> exportAllocations(HttpSession session) {
+        // Check admin access - exports contain every student's contact details
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        StreamingResponseBody body = out -> exportService.writeAllocations(out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hostel.management.controller;
+
+import com.hostel.management.dto.ApiResponse;
+import com.hostel.management.dto.LeaseConflictResponse;
+import com.hostel.management.dto.MessageResponse;
+import com.hostel.management.dto.SnapshotRestoreResponse;
+import com.hostel.management.service.JobLeaseService;
+import com.hostel.management.service.SnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * REST API Controller for binary dataset snapshots (staging restores from production)
+ */
+@RestController
+@RequestMapping("/api/snapshot")
+public class SnapshotController {
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
+    /**
+     * Download a snapshot of students, preferences, rooms and allocations
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> downloadSnapshot(HttpSession session) throws IOException {
+        // Check admin access - snapshots contain password hashes
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        Path file = Files.createTempFile("hostel-snapshot", ".bin");
+        try {
+            snapshotService.write(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                long size = channel.size();
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(Files.size(file))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"hostel-snapshot.bin\"")
+            .body(body);
+    }
+    
+    /**
+     * Replace students, preferences, rooms and allocations with an uploaded snapshot
+     */
+    @PostMapping(value = "/restore", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse> restoreSnapshot(HttpServletRequest request, HttpSession session) {
+        // Check admin access
+        if (session.getAttribute("admin_id") == null) {
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Admin access required"));
+        }
+        
+        Path file = null;
+        try {
+            file = Files.createTempFile("hostel-restore", ".bin");
+            Files.copy(request.getInputStream(), file, StandardCopyOption.REPLACE_EXISTING);
+            
+            // Holding the allocation lease keeps a room allocation from running mid-restore
+            Path upload = file;
+            JobLeaseService.LeaseOutcome<Map<String, Long>> outcome =
+                jobLeaseService.runExclusively(JobLeaseService.ROOM_ALLOCATION, () -> {
+                    try {
+                        return snapshotService.restore(upload);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            
+            if (!outcome.isAcquired()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new LeaseConflictResponse(
+                    outcome.getJobId(), outcome.getOwner(), "Room allocation is running; try the restore again when it finishes"));
+            }
+            
+            return ResponseEntity.ok(SnapshotRestoreResponse.of(outcome.getJobId(), outcome.getResult()));
+        
+        } catch (SnapshotService.CorruptSnapshotException | BufferUnderflowException e) {
+            // Anything else (lease configuration, transaction failures, disk errors) is a server error
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Invalid snapshot: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(MessageResponse.failure("Snapshot restore failed: " + e.getMessage()));
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // Temp directory cleanup will remove it
+                }
+            }
+        }
+    }
+}
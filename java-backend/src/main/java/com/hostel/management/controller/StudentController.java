@@ -1,18 +1,23 @@
 package com.hostel.management.controller;
 
+import com.hostel.management.dto.ApiResponse;
+import com.hostel.management.dto.MessageResponse;
+import com.hostel.management.dto.PreferencesSavedResponse;
 import com.hostel.management.entity.Student;
-import com.hostel.management.entity.StudentPreferences;
 import com.hostel.management.repository.StudentRepository;
-import com.hostel.management.repository.StudentPreferencesRepository;
+import com.hostel.management.service.PasswordService;
+import com.hostel.management.service.PreferencesService;
+import com.hostel.management.service.RegistrationFilterService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpSession;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REST API Controller for student operations
@@ -25,17 +30,19 @@ public class StudentController {
     private StudentRepository studentRepository;
     
     @Autowired
-    private StudentPreferencesRepository preferencesRepository;
+    private PasswordService passwordService;
     
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private RegistrationFilterService registrationFilter;
+    
+    @Autowired
+    private PreferencesService preferencesService;
     
     /**
      * Student registration endpoint
      */
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> register(@RequestBody Map<String, String> request) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> register(@RequestBody Map<String, String> request) {
         try {
             String studentId = request.get("student_id");
             String name = request.get("name");
@@ -48,22 +55,16 @@ public class StudentController {
             
             // Validation
             if (studentId == null || name == null || email == null || password == null) {
-                response.put("success", false);
-                response.put("message", "Required fields are missing");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Required fields are missing"));
             }
             
-            // Check if student already exists
-            if (studentRepository.existsByStudentId(studentId)) {
-                response.put("success", false);
-                response.put("message", "Student ID already exists");
-                return ResponseEntity.badRequest().body(response);
+            // Check if student already exists - only when the filter cannot rule it out
+            if (registrationFilter.mightContainStudentId(studentId) && studentRepository.existsByStudentId(studentId)) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Student ID already exists"));
             }
             
-            if (studentRepository.existsByEmail(email)) {
-                response.put("success", false);
-                response.put("message", "Email already exists");
-                return ResponseEntity.badRequest().body(response);
+            if (registrationFilter.mightContainEmail(email) && studentRepository.existsByEmail(email)) {
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Email already exists"));
             }
             
             // Create new student
@@ -72,23 +73,29 @@ public class StudentController {
             student.setName(name);
             student.setEmail(email);
             student.setPhone(phone);
-            student.setPasswordHash(passwordEncoder.encode(password));
+            student.setPasswordHash(passwordService.encode(password));
             student.setCourse(course);
             if (yearStr != null && !yearStr.isEmpty()) {
                 student.setYear(Integer.parseInt(yearStr));
             }
             student.setGender(gender);
             
-            studentRepository.save(student);
+            try {
+                studentRepository.save(student);
+            } catch (DataIntegrityViolationException e) {
+                // Lost a race (or the filter skipped the checks) - the unique constraints decide
+                String message = studentRepository.existsByStudentId(studentId)
+                    ? "Student ID already exists" : "Email already exists";
+                return ResponseEntity.badRequest().body(MessageResponse.failure(message));
+            }
+            registrationFilter.add(studentId, email);
             
-            response.put("success", true);
-            response.put("message", "Registration successful");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(MessageResponse.ok("Registration successful"));
             
+        } catch (RejectedExecutionException e) {
+            return serverBusy();
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Registration failed: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Registration failed: " + e.getMessage()));
         }
     }
     
@@ -96,17 +103,13 @@ public class StudentController {
      * Student login endpoint
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> request, HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> login(@RequestBody Map<String, String> request, HttpSession session) {
         try {
             String studentId = request.get("student_id");
             String password = request.get("password");
             
             if (studentId == null || password == null) {
-                response.put("success", false);
-                response.put("message", "Student ID and password are required");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Student ID and password are required"));
             }
             
             Optional<Student> studentOpt = studentRepository.findByStudentId(studentId);
@@ -114,25 +117,27 @@ public class StudentController {
             if (studentOpt.isPresent()) {
                 Student student = studentOpt.get();
                 
-                if (passwordEncoder.matches(password, student.getPasswordHash())) {
+                if (passwordService.matches(password, student.getPasswordHash())) {
+                    // Transparently upgrade hashes made with a lower cost factor
+                    if (passwordService.needsRehash(student.getPasswordHash())) {
+                        student.setPasswordHash(passwordService.encode(password));
+                        studentRepository.save(student);
+                    }
+                    
                     // Set session
                     session.setAttribute("student_id", student.getId());
                     session.setAttribute("student_name", student.getName());
                     
-                    response.put("success", true);
-                    response.put("message", "Login successful");
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok(MessageResponse.ok("Login successful"));
                 }
             }
             
-            response.put("success", false);
-            response.put("message", "Invalid credentials");
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Invalid credentials"));
             
+        } catch (RejectedExecutionException e) {
+            return serverBusy();
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Login failed: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Login failed: " + e.getMessage()));
         }
     }
     
@@ -140,81 +145,46 @@ public class StudentController {
      * Save student preferences endpoint
      */
     @PostMapping("/preferences")
-    public ResponseEntity<Map<String, Object>> savePreferences(@RequestBody Map<String, String> request, HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> savePreferences(@RequestBody Map<String, String> request, HttpSession session) {
         try {
             Long studentId = (Long) session.getAttribute("student_id");
             if (studentId == null) {
-                response.put("success", false);
-                response.put("message", "Not authenticated");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Not authenticated"));
             }
             
-            Optional<Student> studentOpt = studentRepository.findById(studentId);
-            if (!studentOpt.isPresent()) {
-                response.put("success", false);
-                response.put("message", "Student not found");
-                return ResponseEntity.badRequest().body(response);
+            boolean changed;
+            try {
+                changed = preferencesService.savePreferences(studentId, request);
+            } catch (DataIntegrityViolationException e) {
+                // Foreign key on student_id - the session outlived the student
+                return ResponseEntity.badRequest().body(MessageResponse.failure("Student not found"));
             }
             
-            Student student = studentOpt.get();
-            
-            // Check if preferences already exist
-            Optional<StudentPreferences> existingPrefs = preferencesRepository.findByStudent(student);
-            StudentPreferences preferences;
-            
-            if (existingPrefs.isPresent()) {
-                preferences = existingPrefs.get();
-            } else {
-                preferences = new StudentPreferences();
-                preferences.setStudent(student);
-            }
-            
-            // Set preference values
-            preferences.setSleepTime(request.get("sleep_time"));
-            preferences.setWakeTime(request.get("wake_time"));
-            preferences.setStudyPreference(request.get("study_preference"));
-            preferences.setNoiseTolerance(request.get("noise_tolerance"));
-            preferences.setCleanlinessLevel(request.get("cleanliness_level"));
-            preferences.setSocialPreference(request.get("social_preference"));
-            preferences.setMusicPreference(request.get("music_preference"));
-            preferences.setVisitorFrequency(request.get("visitor_frequency"));
-            preferences.setTemperaturePreference(request.get("temperature_preference"));
-            preferences.setDietaryPreferences(request.get("dietary_preferences"));
-            preferences.setInterests(request.get("interests"));
-            preferences.setAdditionalNotes(request.get("additional_notes"));
-            
-            // Save preferences and ensure bidirectional link is set on the student
-            StudentPreferences saved = preferencesRepository.save(preferences);
-            student.setPreferences(saved);
-            studentRepository.save(student);
-            
-            response.put("success", true);
-            response.put("message", "Preferences saved successfully");
-            response.put("preferences_id", saved.getId());
-            return ResponseEntity.ok(response);
+            String message = changed ? "Preferences saved successfully" : "Preferences unchanged";
+            return ResponseEntity.ok(new PreferencesSavedResponse(true, message, changed));
             
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "Failed to save preferences: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(MessageResponse.failure("Failed to save preferences: " + e.getMessage()));
         }
     }
 
     
+    /**
+     * Response used when the password hashing executor is saturated
+     */
+    static ResponseEntity<ApiResponse> serverBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1")
+            .body(MessageResponse.failure("Server is busy, please try again shortly"));
+    }
+    
     /**
      * Logout endpoint (POST)
      */
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, Object>> logout(HttpSession session) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse> logout(HttpSession session) {
         session.invalidate();
         
-        response.put("success", true);
-        response.put("message", "Logged out successfully");
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(MessageResponse.ok("Logged out successfully"));
     }
     
     /**
@@ -0,0 +1,27 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+/**
+ * Allocation readiness: who is waiting for a room and which rooms can take them
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AllocationDebugResponse(
+        boolean success,
+        int totalStudents,
+        int studentsWithPreferencesNoAllocation,
+        int totalRooms,
+        int availableRooms,
+        List<StudentReadiness> studentDetails,
+        List<RoomReadiness> roomDetails) implements ApiResponse {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record StudentReadiness(String studentId, String name, boolean hasPreferences, boolean hasAllocation) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record RoomReadiness(String roomNumber, Integer capacity, Integer occupied, String status, boolean isAvailable) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+/**
+ * One keyset page of allocations; next_cursor is the "after" value for the following page
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AllocationPageResponse(
+        boolean success,
+        List<AllocationView> allocations,
+        int total,
+        boolean hasMore,
+        Long nextCursor) implements ApiResponse {
+}
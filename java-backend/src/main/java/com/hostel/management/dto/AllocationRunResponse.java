@@ -0,0 +1,32 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.hostel.management.service.RoomAllocationService;
+import java.util.List;
+
+/**
+ * Outcome of a room allocation run
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AllocationRunResponse(
+        boolean success,
+        String jobId,
+        int allocatedCount,
+        int totalStudents,
+        List<Detail> details,
+        String message) implements ApiResponse {
+
+    public static AllocationRunResponse of(String jobId, RoomAllocationService.AllocationResult result) {
+        List<Detail> details = result.getDetails().stream()
+            .map(detail -> new Detail(detail.getStudentName(), detail.getStudentId(), detail.getRoomNumber(),
+                detail.getCompatibilityScore()))
+            .toList();
+        return new AllocationRunResponse(true, jobId, result.getAllocatedCount(), result.getTotalStudents(), details,
+            result.getMessage());
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Detail(String studentName, String studentId, String roomNumber, double compatibilityScore) {
+    }
+}
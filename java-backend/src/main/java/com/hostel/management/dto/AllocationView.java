@@ -0,0 +1,35 @@
+package com.hostel.management.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an allocation joined with its student and room columns
+ */
+public interface AllocationView {
+
+    Long getId();
+
+    Long getStudentPk();
+
+    String getStudentId();
+
+    String getStudentName();
+
+    String getEmail();
+
+    String getCourse();
+
+    Long getRoomId();
+
+    String getRoomNumber();
+
+    String getBuilding();
+
+    Integer getFloor();
+
+    Double getCompatibilityScore();
+
+    LocalDateTime getAllocationDate();
+
+    String getStatus();
+}
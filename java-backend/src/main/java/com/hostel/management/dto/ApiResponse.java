@@ -0,0 +1,7 @@
+package com.hostel.management.dto;
+
+/**
+ * Body of a JSON API response - each endpoint answers with its own immutable record
+ */
+public interface ApiResponse {
+}
@@ -0,0 +1,23 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.Map;
+
+/**
+ * Second-level and natural-id cache counters, overall and per region
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record CacheStatsResponse(
+        boolean success,
+        boolean statisticsEnabled,
+        long secondLevelCacheHits,
+        long secondLevelCacheMisses,
+        long naturalIdCacheHits,
+        long naturalIdCacheMisses,
+        Map<String, RegionStats> regions) implements ApiResponse {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record RegionStats(long hits, long misses, long puts, long entriesInMemory) {
+    }
+}
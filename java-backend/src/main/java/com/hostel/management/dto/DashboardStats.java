@@ -0,0 +1,27 @@
+package com.hostel.management.dto;
+
+/**
+ * Projection for the admin dashboard figures, filled by a single aggregate query
+ */
+public interface DashboardStats {
+
+    Long getTotalStudents();
+
+    Long getStudentsWithPreferences();
+
+    Long getTotalRooms();
+
+    Long getOccupiedRooms();
+
+    Long getAvailableRooms();
+
+    Long getTotalCapacity();
+
+    Long getTotalOccupied();
+
+    Long getActiveAllocations();
+
+    Double getAverageCompatibilityScore();
+
+    Long getAdmins();
+}
@@ -0,0 +1,41 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Admin dashboard figures
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record DashboardStatsResponse(
+        boolean success,
+        long totalStudents,
+        Long studentsWithPreferences,
+        Long totalRooms,
+        Long occupiedRooms,
+        Long availableRooms,
+        Long totalCapacity,
+        Long totalOccupied,
+        long activeAllocations,
+        long pendingAllocations,
+        Double averageCompatibilityScore) implements ApiResponse {
+
+    public static DashboardStatsResponse of(DashboardStats stats) {
+        long totalStudents = stats.getTotalStudents();
+        long activeAllocations = stats.getActiveAllocations();
+        Double averageScore = stats.getAverageCompatibilityScore();
+
+        return new DashboardStatsResponse(
+            true,
+            totalStudents,
+            stats.getStudentsWithPreferences(),
+            stats.getTotalRooms(),
+            stats.getOccupiedRooms(),
+            stats.getAvailableRooms(),
+            stats.getTotalCapacity(),
+            stats.getTotalOccupied(),
+            activeAllocations,
+            Math.max(0, totalStudents - activeAllocations),
+            averageScore != null ? Math.round(averageScore * 100.0) / 100.0 : null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Database health with row counts; the counts are left out when the database is unreachable
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HealthResponse(
+        boolean success,
+        String database,
+        Long students,
+        Long rooms,
+        Long admins,
+        String message) implements ApiResponse {
+
+    public static HealthResponse connected(DashboardStats stats) {
+        return new HealthResponse(true, "connected", stats.getTotalStudents(), stats.getTotalRooms(), stats.getAdmins(),
+            "Database is working properly");
+    }
+
+    public static HealthResponse error(String message) {
+        return new HealthResponse(false, "error", null, null, null, message);
+    }
+}
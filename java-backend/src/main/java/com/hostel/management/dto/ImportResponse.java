@@ -0,0 +1,24 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.hostel.management.service.StudentImportService;
+import java.util.List;
+
+/**
+ * Outcome of a bulk student import, with the rows that were rejected
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ImportResponse(
+        boolean success,
+        int totalRows,
+        int imported,
+        int failed,
+        List<StudentImportService.RowError> errors,
+        String message) implements ApiResponse {
+
+    public static ImportResponse of(StudentImportService.ImportResult result) {
+        return new ImportResponse(true, result.getTotalRows(), result.getImported(), result.getErrors().size(),
+            result.getErrors(), String.format("Imported %d of %d rows", result.getImported(), result.getTotalRows()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Response when a cluster-wide job is already running on another node
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record LeaseConflictResponse(boolean success, String jobId, String runningOn, String message) implements ApiResponse {
+
+    public LeaseConflictResponse(String jobId, String runningOn, String message) {
+        this(false, jobId, runningOn, message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hostel.management.dto;
+
+/**
+ * Plain success/message response, also used for every error
+ */
+public record MessageResponse(boolean success, String message) implements ApiResponse {
+
+    public static MessageResponse ok(String message) {
+        return new MessageResponse(true, message);
+    }
+
+    public static MessageResponse failure(String message) {
+        return new MessageResponse(false, message);
+    }
+}
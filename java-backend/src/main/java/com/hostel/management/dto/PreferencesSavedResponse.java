@@ -0,0 +1,7 @@
+package com.hostel.management.dto;
+
+/**
+ * Response to a preferences save, telling whether anything changed
+ */
+public record PreferencesSavedResponse(boolean success, String message, boolean changed) implements ApiResponse {
+}
@@ -0,0 +1,24 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.hostel.management.service.OccupancyReconciliationService;
+import java.util.List;
+
+/**
+ * Outcome of an occupancy reconciliation run
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ReconciliationResponse(
+        boolean success,
+        String jobId,
+        List<OccupancyReconciliationService.RoomDrift> driftedRooms,
+        int corrected,
+        int skipped,
+        int totalDrift) implements ApiResponse {
+
+    public static ReconciliationResponse of(String jobId, OccupancyReconciliationService.ReconciliationReport report) {
+        return new ReconciliationResponse(true, jobId, report.getDrifts(), report.getCorrected(), report.getSkipped(),
+            report.getTotalDrift());
+    }
+}
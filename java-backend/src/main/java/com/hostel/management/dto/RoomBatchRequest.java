@@ -0,0 +1,161 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Request body for bulk room provisioning: either an explicit list of rooms, or a
+ * range specification (building, floors and room numbers per floor) that is expanded
+ * into rooms numbered prefix + floor + two-digit room, e.g. D101..D140.
+ */
+public class RoomBatchRequest {
+    private List<RoomSpec> rooms;
+    private String building;
+    private String prefix;
+    @JsonProperty("floor_from")
+    private Integer floorFrom;
+    @JsonProperty("floor_to")
+    private Integer floorTo;
+    @JsonProperty("room_from")
+    private Integer roomFrom;
+    @JsonProperty("room_to")
+    private Integer roomTo;
+    private Integer capacity;
+    private String amenities;
+
+    // Getters and setters
+    public List<RoomSpec> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<RoomSpec> rooms) {
+        this.rooms = rooms;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public Integer getFloorFrom() {
+        return floorFrom;
+    }
+
+    public void setFloorFrom(Integer floorFrom) {
+        this.floorFrom = floorFrom;
+    }
+
+    public Integer getFloorTo() {
+        return floorTo;
+    }
+
+    public void setFloorTo(Integer floorTo) {
+        this.floorTo = floorTo;
+    }
+
+    public Integer getRoomFrom() {
+        return roomFrom;
+    }
+
+    public void setRoomFrom(Integer roomFrom) {
+        this.roomFrom = roomFrom;
+    }
+
+    public Integer getRoomTo() {
+        return roomTo;
+    }
+
+    public void setRoomTo(Integer roomTo) {
+        this.roomTo = roomTo;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public String getAmenities() {
+        return amenities;
+    }
+
+    public void setAmenities(String amenities) {
+        this.amenities = amenities;
+    }
+
+    /**
+     * A single room in an explicit list
+     */
+    public static class RoomSpec {
+        @JsonProperty("room_number")
+        private String roomNumber;
+        private String building;
+        private Integer floor;
+        private Integer capacity;
+        private String amenities;
+
+        public RoomSpec() {}
+
+        public RoomSpec(String roomNumber, String building, Integer floor, Integer capacity, String amenities) {
+            this.roomNumber = roomNumber;
+            this.building = building;
+            this.floor = floor;
+            this.capacity = capacity;
+            this.amenities = amenities;
+        }
+
+        public String getRoomNumber() {
+            return roomNumber;
+        }
+
+        public void setRoomNumber(String roomNumber) {
+            this.roomNumber = roomNumber;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+
+        public void setBuilding(String building) {
+            this.building = building;
+        }
+
+        public Integer getFloor() {
+            return floor;
+        }
+
+        public void setFloor(Integer floor) {
+            this.floor = floor;
+        }
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+
+        public String getAmenities() {
+            return amenities;
+        }
+
+        public void setAmenities(String amenities) {
+            this.amenities = amenities;
+        }
+    }
+}
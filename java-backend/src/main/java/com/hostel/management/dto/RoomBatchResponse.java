@@ -0,0 +1,20 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of bulk room provisioning; conflicts are only present when nothing was created
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomBatchResponse(boolean success, Integer created, List<String> conflicts, String message)
+        implements ApiResponse {
+
+    public static RoomBatchResponse created(int created) {
+        return new RoomBatchResponse(true, created, null, "Created " + created + " rooms");
+    }
+
+    public static RoomBatchResponse conflicts(List<String> conflicts) {
+        return new RoomBatchResponse(false, null, conflicts, "Room numbers already exist or are repeated");
+    }
+}
@@ -0,0 +1,10 @@
+package com.hostel.management.dto;
+
+import com.hostel.management.entity.Room;
+import java.util.List;
+
+/**
+ * All rooms, as listed on the admin dashboard
+ */
+public record RoomListResponse(List<Room> rooms) implements ApiResponse {
+}
@@ -0,0 +1,20 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.Map;
+
+/**
+ * Outcome of a snapshot restore: rows loaded per table
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record SnapshotRestoreResponse(
+        boolean success,
+        String jobId,
+        Map<String, Long> restored,
+        String message) implements ApiResponse {
+
+    public static SnapshotRestoreResponse of(String jobId, Map<String, Long> restored) {
+        return new SnapshotRestoreResponse(true, jobId, restored, "Snapshot restored successfully");
+    }
+}
@@ -0,0 +1,7 @@
+package com.hostel.management.dto;
+
+/**
+ * One student with preferences, for the admin detail view
+ */
+public record StudentDetailResponse(boolean success, StudentDto student) implements ApiResponse {
+}
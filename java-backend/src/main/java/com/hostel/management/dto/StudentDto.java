@@ -35,6 +35,20 @@ public class StudentDto {
         this.preferences = student.getPreferences() != null ? new PreferencesDto(student.getPreferences()) : null;
     }
 
+    // Constructor from listing projection, preferences loaded separately (may be null)
+    public StudentDto(StudentSummary summary, PreferencesDto preferences) {
+        this.id = summary.getId();
+        this.studentId = summary.getStudentId();
+        this.name = summary.getName();
+        this.email = summary.getEmail();
+        this.phone = summary.getPhone();
+        this.course = summary.getCourse();
+        this.year = summary.getYear();
+        this.gender = summary.getGender();
+        this.createdAt = summary.getCreatedAt();
+        this.preferences = preferences;
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -0,0 +1,35 @@
+package com.hostel.management.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a student and their preferences for streaming exports
+ */
+public interface StudentExportRow extends StudentSummary {
+
+    String getSleepTime();
+
+    String getWakeTime();
+
+    String getStudyPreference();
+
+    String getNoiseTolerance();
+
+    String getCleanlinessLevel();
+
+    String getSocialPreference();
+
+    String getMusicPreference();
+
+    String getVisitorFrequency();
+
+    String getTemperaturePreference();
+
+    String getDietaryPreferences();
+
+    String getInterests();
+
+    String getAdditionalNotes();
+
+    LocalDateTime getPreferencesCreatedAt();
+}
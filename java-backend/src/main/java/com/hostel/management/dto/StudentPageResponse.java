@@ -0,0 +1,18 @@
+package com.hostel.management.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+/**
+ * One keyset page of students; next_cursor is the "after" value for the following page
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StudentPageResponse(
+        boolean success,
+        List<StudentDto> students,
+        int count,
+        boolean hasMore,
+        Long nextCursor,
+        String message) implements ApiResponse {
+}
@@ -0,0 +1,27 @@
+package com.hostel.management.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the student columns shown in admin listings
+ */
+public interface StudentSummary {
+
+    Long getId();
+
+    String getStudentId();
+
+    String getName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getCourse();
+
+    Integer getYear();
+
+    String getGender();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package com.hostel.management.dto;
+
+/**
+ * Liveness answer of the test endpoint
+ */
+public record TestResponse(String message, long timestamp) implements ApiResponse {
+}
@@ -2,11 +2,18 @@ package com.hostel.management.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Admin entity for system administrators
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "admins")
+@NaturalIdCache(region = "admins-natural-id")
 @Table(name = "admin")
 public class Admin {
     
@@ -14,6 +21,7 @@ public class Admin {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId
     @Column(unique = true, nullable = false)
     @NotBlank(message = "Username is required")
     private String username;
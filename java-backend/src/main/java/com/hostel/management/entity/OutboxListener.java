@@ -0,0 +1,78 @@
+package com.hostel.management.entity;
+
+import com.hostel.management.service.OutboxService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JPA entity listener that writes room, allocation and registration changes to the outbox.
+ * Callbacks run during flush, so the outbox row joins the entity's transaction.
+ */
+public class OutboxListener {
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Room room) {
+            outboxService.record("room", room.getId(), OutboxService.ROOM_CREATED, roomPayload(room));
+        } else if (entity instanceof RoomAllocation allocation) {
+            outboxService.record("allocation", allocation.getId(), OutboxService.ALLOCATION_CREATED, allocationPayload(allocation));
+        } else if (entity instanceof Student student) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", student.getId());
+            payload.put("student_id", student.getStudentId());
+            payload.put("name", student.getName());
+            payload.put("course", student.getCourse());
+            outboxService.record("student", student.getId(), OutboxService.STUDENT_REGISTERED, payload);
+        }
+    }
+    
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Room room) {
+            outboxService.record("room", room.getId(), OutboxService.ROOM_UPDATED, roomPayload(room));
+        } else if (entity instanceof RoomAllocation allocation) {
+            String eventType = "active".equals(allocation.getStatus())
+                ? OutboxService.ALLOCATION_UPDATED : OutboxService.ALLOCATION_RELEASED;
+            outboxService.record("allocation", allocation.getId(), eventType, allocationPayload(allocation));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Room room) {
+            outboxService.record("room", room.getId(), OutboxService.ROOM_DELETED, roomPayload(room));
+        } else if (entity instanceof RoomAllocation allocation) {
+            outboxService.record("allocation", allocation.getId(), OutboxService.ALLOCATION_RELEASED, allocationPayload(allocation));
+        }
+    }
+    
+    private Map<String, Object> roomPayload(Room room) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", room.getId());
+        payload.put("room_number", room.getRoomNumber());
+        payload.put("building", room.getBuilding());
+        payload.put("floor", room.getFloor());
+        payload.put("capacity", room.getCapacity());
+        payload.put("occupied", room.getOccupied());
+        payload.put("status", room.getStatus());
+        return payload;
+    }
+    
+    private Map<String, Object> allocationPayload(RoomAllocation allocation) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", allocation.getId());
+        payload.put("student_id", allocation.getStudent() != null ? allocation.getStudent().getId() : null);
+        payload.put("room_id", allocation.getRoom() != null ? allocation.getRoom().getId() : null);
+        payload.put("compatibility_score", allocation.getCompatibilityScore());
+        payload.put("status", allocation.getStatus());
+        return payload;
+    }
+}
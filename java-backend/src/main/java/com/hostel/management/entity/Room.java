@@ -2,6 +2,10 @@ package com.hostel.management.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.List;
 
@@ -9,13 +13,18 @@ import java.util.List;
  * Room entity representing a hostel room
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms")
+@NaturalIdCache(region = "rooms-natural-id")
 @Table(name = "rooms")
+@EntityListeners({TableVersionListener.class, OutboxListener.class})
 public class Room {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId
     @Column(name = "room_number", unique = true, nullable = false)
     private String roomNumber;
     
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "room_allocations")
+@EntityListeners({TableVersionListener.class, OutboxListener.class})
 public class RoomAllocation {
     
     @Id
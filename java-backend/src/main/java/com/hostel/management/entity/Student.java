@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "students")
+@EntityListeners({TableVersionListener.class, OutboxListener.class})
 public class Student {
     
     @Id
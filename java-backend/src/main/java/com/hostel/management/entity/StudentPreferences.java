@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "student_preferences")
+@EntityListeners(TableVersionListener.class)
 public class StudentPreferences {
     
     @Id
@@ -62,6 +63,10 @@ public class StudentPreferences {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    // Incremented on every change so downstream caches can tell stale preferences apart
+    @Column(name = "preferences_version")
+    private Long preferencesVersion = 0L;
+    
     // Default constructor
     public StudentPreferences() {}
     
@@ -190,4 +195,12 @@ public class StudentPreferences {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    
+    public Long getPreferencesVersion() {
+        return preferencesVersion;
+    }
+    
+    public void setPreferencesVersion(Long preferencesVersion) {
+        this.preferencesVersion = preferencesVersion;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.hostel.management.entity;
+
+import com.hostel.management.service.TableVersionService;
+import com.hostel.management.service.TableVersionService.Table;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener that bumps table version counters on every entity write.
+ * Instantiated through Spring's bean container, so it can be autowired.
+ */
+public class TableVersionListener {
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        if (entity instanceof Room) {
+            tableVersionService.bump(Table.ROOMS);
+        } else if (entity instanceof Student || entity instanceof StudentPreferences) {
+            tableVersionService.bump(Table.STUDENTS);
+        } else if (entity instanceof RoomAllocation) {
+            tableVersionService.bump(Table.ALLOCATIONS);
+        }
+    }
+}
@@ -10,17 +10,7 @@ import java.util.Optional;
  * Repository interface for Admin entity operations
  */
 @Repository
-public interface AdminRepository extends JpaRepository<Admin, Long> {
-    
-    /**
-     * Find admin by username
-     */
-    Optional<Admin> findByUsername(String username);
-    
-    /**
-     * Check if admin exists by username
-     */
-    boolean existsByUsername(String username);
+public interface AdminRepository extends JpaRepository<Admin, Long>, AdminRepositoryCustom {
     
     /**
      * Find admin by email
@@ -0,0 +1,21 @@
+package com.hostel.management.repository;
+
+import com.hostel.management.entity.Admin;
+
+import java.util.Optional;
+
+/**
+ * Admin lookups by username, served from the natural-id second-level cache
+ */
+public interface AdminRepositoryCustom {
+    
+    /**
+     * Find admin by username
+     */
+    Optional<Admin> findByUsername(String username);
+    
+    /**
+     * Check if admin exists by username
+     */
+    boolean existsByUsername(String username);
+}
@@ -0,0 +1,29 @@
+package com.hostel.management.repository;
+
+import com.hostel.management.entity.Admin;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Natural-id based implementation of {@link AdminRepositoryCustom}
+ */
+public class AdminRepositoryCustomImpl implements AdminRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Optional<Admin> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Admin.class)
+                .loadOptional(username);
+    }
+    
+    @Override
+    public boolean existsByUsername(String username) {
+        return findByUsername(username).isPresent();
+    }
+}
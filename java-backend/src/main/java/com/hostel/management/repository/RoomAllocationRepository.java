@@ -1,14 +1,20 @@
 package com.hostel.management.repository;
 
+import com.hostel.management.dto.AllocationView;
 import com.hostel.management.entity.RoomAllocation;
 import com.hostel.management.entity.Student;
 import com.hostel.management.entity.Room;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for RoomAllocation entity operations
@@ -71,4 +77,41 @@ public interface RoomAllocationRepository extends JpaRepository<RoomAllocation,
      */
     @Query("SELECT AVG(ra.compatibilityScore) FROM RoomAllocation ra WHERE ra.status = 'active' AND ra.compatibilityScore IS NOT NULL")
     Double getAverageCompatibilityScore();
-}
\ No newline at end of file
+    
+    /**
+     * Keyset page of allocations joined with student and room columns, ordered by id.
+     * Null filters are ignored.
+     */
+    @Query("SELECT ra.id AS id, s.id AS studentPk, s.studentId AS studentId, s.name AS studentName, " +
+           "s.email AS email, s.course AS course, r.id AS roomId, r.roomNumber AS roomNumber, " +
+           "r.building AS building, r.floor AS floor, ra.compatibilityScore AS compatibilityScore, " +
+           "ra.allocationDate AS allocationDate, ra.status AS status " +
+           "FROM RoomAllocation ra JOIN ra.student s JOIN ra.room r " +
+           "WHERE ra.id > :afterId " +
+           "AND (:status IS NULL OR ra.status = :status) " +
+           "AND (:building IS NULL OR r.building = :building) " +
+           "AND (:minScore IS NULL OR ra.compatibilityScore >= :minScore) " +
+           "AND (:maxScore IS NULL OR ra.compatibilityScore <= :maxScore) " +
+           "ORDER BY ra.id")
+    List<AllocationView> findViewsAfter(@Param("afterId") Long afterId,
+                                        @Param("status") String status,
+                                        @Param("building") String building,
+                                        @Param("minScore") Double minScore,
+                                        @Param("maxScore") Double maxScore,
+                                        Pageable pageable);
+    
+    /**
+     * Stream every allocation joined with student and room columns, for exports
+     * (must be closed by the caller)
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT ra.id AS id, s.id AS studentPk, s.studentId AS studentId, s.name AS studentName, " +
+           "s.email AS email, s.course AS course, r.id AS roomId, r.roomNumber AS roomNumber, " +
+           "r.building AS building, r.floor AS floor, ra.compatibilityScore AS compatibilityScore, " +
+           "ra.allocationDate AS allocationDate, ra.status AS status " +
+           "FROM RoomAllocation ra JOIN ra.student s JOIN ra.room r ORDER BY ra.id")
+    Stream<AllocationView> streamAllForExport();
+}
@@ -1,34 +1,43 @@
 package com.hostel.management.repository;
 
+import com.hostel.management.dto.DashboardStats;
 import com.hostel.management.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository interface for Room entity operations
  */
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, RoomRepositoryCustom {
     
     /**
-     * Find room by room number
+     * Find available rooms (not at full capacity)
      */
-    Optional<Room> findByRoomNumber(String roomNumber);
+    @Query("SELECT r FROM Room r WHERE r.occupied < r.capacity AND r.status = 'available'")
+    List<Room> findAvailableRooms();
     
     /**
-     * Check if room exists by room number
+     * Find available rooms as read-only entities, for the allocator
      */
-    boolean existsByRoomNumber(String roomNumber);
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("SELECT r FROM Room r WHERE r.occupied < r.capacity AND r.status = 'available'")
+    List<Room> findAvailableRoomsForAllocation();
     
     /**
-     * Find available rooms (not at full capacity)
+     * Atomically take one bed in a room if it still has space; returns the number of rows updated
      */
-    @Query("SELECT r FROM Room r WHERE r.occupied < r.capacity AND r.status = 'available'")
-    List<Room> findAvailableRooms();
+    @Modifying
+    @Query("UPDATE Room r SET r.occupied = r.occupied + 1 " +
+           "WHERE r.id = :id AND r.occupied < r.capacity AND r.status = 'available'")
+    int incrementOccupiedIfAvailable(@Param("id") Long id);
     
     /**
      * Find rooms by building
@@ -73,4 +82,23 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     @Query("SELECT COUNT(r) FROM Room r WHERE r.occupied < r.capacity AND r.status = 'available'")
     Long getAvailableRoomCount();
-}
\ No newline at end of file
+    
+    /**
+     * Get all dashboard figures in one round trip
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(*) FROM students) AS \"totalStudents\", " +
+           "(SELECT COUNT(*) FROM student_preferences) AS \"studentsWithPreferences\", " +
+           "COUNT(r.id) AS \"totalRooms\", " +
+           "COALESCE(SUM(CASE WHEN r.occupied > 0 THEN 1 ELSE 0 END), 0) AS \"occupiedRooms\", " +
+           "COALESCE(SUM(CASE WHEN r.occupied < r.capacity AND r.status = 'available' THEN 1 ELSE 0 END), 0) AS \"availableRooms\", " +
+           "COALESCE(SUM(r.capacity), 0) AS \"totalCapacity\", " +
+           "COALESCE(SUM(r.occupied), 0) AS \"totalOccupied\", " +
+           "(SELECT COUNT(*) FROM room_allocations ra WHERE ra.status = 'active') AS \"activeAllocations\", " +
+           "(SELECT AVG(ra.compatibility_score) FROM room_allocations ra " +
+           " WHERE ra.status = 'active' AND ra.compatibility_score IS NOT NULL) AS \"averageCompatibilityScore\", " +
+           "(SELECT COUNT(*) FROM admin) AS \"admins\" " +
+           "FROM rooms r",
+           nativeQuery = true)
+    DashboardStats getDashboardStats();
+}
@@ -0,0 +1,21 @@
+package com.hostel.management.repository;
+
+import com.hostel.management.entity.Room;
+
+import java.util.Optional;
+
+/**
+ * Room lookups by room number, served from the natural-id second-level cache
+ */
+public interface RoomRepositoryCustom {
+    
+    /**
+     * Find room by room number
+     */
+    Optional<Room> findByRoomNumber(String roomNumber);
+    
+    /**
+     * Check if room exists by room number
+     */
+    boolean existsByRoomNumber(String roomNumber);
+}
@@ -0,0 +1,29 @@
+package com.hostel.management.repository;
+
+import com.hostel.management.entity.Room;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Natural-id based implementation of {@link RoomRepositoryCustom}
+ */
+public class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Optional<Room> findByRoomNumber(String roomNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Room.class)
+                .loadOptional(roomNumber);
+    }
+    
+    @Override
+    public boolean existsByRoomNumber(String roomNumber) {
+        return findByRoomNumber(roomNumber).isPresent();
+    }
+}
@@ -5,6 +5,8 @@ import com.hostel.management.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,6 +25,11 @@ public interface StudentPreferencesRepository extends JpaRepository<StudentPrefe
      */
     Optional<StudentPreferences> findByStudentId(Long studentId);
     
+    /**
+     * Find preferences for a batch of student IDs
+     */
+    List<StudentPreferences> findByStudentIdIn(Collection<Long> studentIds);
+    
     /**
      * Check if preferences exist for student
      */
@@ -1,12 +1,19 @@
 package com.hostel.management.repository;
 
+import com.hostel.management.dto.StudentExportRow;
+import com.hostel.management.dto.StudentSummary;
 import com.hostel.management.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Student entity operations
@@ -68,4 +75,38 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     @Query("SELECT s FROM Student s WHERE s.roomAllocation IS NULL")
     List<Student> findUnallocatedStudents();
-}
\ No newline at end of file
+    
+    /**
+     * Find one student with preferences loaded, for the admin detail view
+     */
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.preferences WHERE s.id = :id")
+    Optional<Student> findWithPreferencesById(@Param("id") Long id);
+    
+    /**
+     * Keyset page of student listing columns, ordered by id, starting after the given id
+     */
+    @Query("SELECT s.id AS id, s.studentId AS studentId, s.name AS name, s.email AS email, " +
+           "s.phone AS phone, s.course AS course, s.year AS year, s.gender AS gender, " +
+           "s.createdAt AS createdAt " +
+           "FROM Student s WHERE s.id > :afterId ORDER BY s.id")
+    List<StudentSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Stream every student with their preferences, for exports (must be closed by the caller)
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT s.id AS id, s.studentId AS studentId, s.name AS name, s.email AS email, " +
+           "s.phone AS phone, s.course AS course, s.year AS year, s.gender AS gender, " +
+           "s.createdAt AS createdAt, p.sleepTime AS sleepTime, p.wakeTime AS wakeTime, " +
+           "p.studyPreference AS studyPreference, p.noiseTolerance AS noiseTolerance, " +
+           "p.cleanlinessLevel AS cleanlinessLevel, p.socialPreference AS socialPreference, " +
+           "p.musicPreference AS musicPreference, p.visitorFrequency AS visitorFrequency, " +
+           "p.temperaturePreference AS temperaturePreference, p.dietaryPreferences AS dietaryPreferences, " +
+           "p.interests AS interests, p.additionalNotes AS additionalNotes, " +
+           "p.createdAt AS preferencesCreatedAt " +
+           "FROM Student s LEFT JOIN s.preferences p ORDER BY s.id")
+    Stream<StudentExportRow> streamAllForExport();
+}
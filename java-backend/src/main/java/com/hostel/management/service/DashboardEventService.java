@@ -0,0 +1,262 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes compact dashboard deltas to connected admin dashboards over Server-Sent Events.
+ *
+ * Outbox events are turned into deltas keyed by what they describe (overall counters,
+ * one room's occupancy, the room list) and queued per client. Queued deltas with the
+ * same key are merged, so a slow client receives one up-to-date delta instead of a
+ * backlog. When a client's queue exceeds hostel.sse.max-buffered-deltas it is dropped
+ * and the client is told to resync over the REST endpoints instead.
+ */
+@Service
+public class DashboardEventService implements OutboxSubscriber {
+    
+    // Counter fields summed when deltas are merged
+    private static final Set<String> ADDITIVE_FIELDS = Set.of("students", "rooms", "allocations", "occupied_delta");
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${hostel.sse.timeout:PT30M}")
+    private Duration timeout;
+    
+    @Value("${hostel.sse.max-buffered-deltas:256}")
+    private int maxBufferedDeltas;
+    
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    
+    // Sends block on slow sockets, so they never run on the outbox poller thread
+    private final ExecutorService senders;
+    
+    public DashboardEventService(@Value("${hostel.sse.sender-threads:4}") int senderThreads) {
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-sse");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Register a dashboard connection
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Client client = new Client(emitter);
+        clients.add(client);
+        
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(error -> clients.remove(client));
+        
+        client.offer("ready", Map.of("type", "ready"));
+        return emitter;
+    }
+    
+    /**
+     * Number of connected dashboards
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+    
+    @Override
+    public void onEvent(OutboxService.OutboxEvent event) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Map<String, Object>> deltas = toDeltas(event);
+        for (Client client : clients) {
+            deltas.forEach(client::offer);
+        }
+    }
+    
+    /**
+     * Keep idle connections open through proxies and detect clients that went away
+     */
+    @Scheduled(fixedDelayString = "${hostel.sse.heartbeat-interval:25000}")
+    public void heartbeat() {
+        for (Client client : clients) {
+            client.offer("ping", Map.of("type", "ping"));
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        clients.forEach(client -> client.emitter.complete());
+        senders.shutdownNow();
+    }
+    
+    /**
+     * Map an outbox event to the dashboard deltas it implies
+     */
+    private Map<String, Map<String, Object>> toDeltas(OutboxService.OutboxEvent event) {
+        Map<String, Map<String, Object>> deltas = new LinkedHashMap<>();
+        JsonNode payload = readPayload(event);
+        
+        switch (event.getEventType()) {
+            case OutboxService.STUDENT_REGISTERED ->
+                deltas.put("stats", stats("students", 1));
+            case OutboxService.ALLOCATION_CREATED, OutboxService.ALLOCATION_RELEASED -> {
+                int change = OutboxService.ALLOCATION_CREATED.equals(event.getEventType()) ? 1 : -1;
+                deltas.put("stats", stats("allocations", change));
+                if (payload.hasNonNull("room_id")) {
+                    long roomId = payload.get("room_id").asLong();
+                    Map<String, Object> room = new LinkedHashMap<>();
+                    room.put("type", "room");
+                    room.put("id", roomId);
+                    room.put("occupied_delta", change);
+                    deltas.put("room:" + roomId, room);
+                }
+            }
+            case OutboxService.ROOM_UPDATED, OutboxService.ROOM_OCCUPANCY_CORRECTED -> {
+                if (payload.hasNonNull("id") && payload.hasNonNull("occupied")) {
+                    long roomId = payload.get("id").asLong();
+                    Map<String, Object> room = new LinkedHashMap<>();
+                    room.put("type", "room");
+                    room.put("id", roomId);
+                    room.put("occupied", payload.get("occupied").asInt());
+                    if (payload.hasNonNull("capacity")) {
+                        room.put("capacity", payload.get("capacity").asInt());
+                    }
+                    deltas.put("room:" + roomId, room);
+                }
+            }
+            case OutboxService.ROOM_CREATED, OutboxService.ROOM_DELETED -> {
+                deltas.put("stats", stats("rooms", OutboxService.ROOM_CREATED.equals(event.getEventType()) ? 1 : -1));
+                deltas.put("rooms", Map.of("type", "rooms_changed"));
+            }
+            case OutboxService.SNAPSHOT_RESTORED ->
+                deltas.put("reload", Map.of("type", "reload"));
+            default -> {
+                // Not shown on the dashboard
+            }
+        }
+        return deltas;
+    }
+    
+    private JsonNode readPayload(OutboxService.OutboxEvent event) {
+        try {
+            return event.getPayload() != null
+                ? objectMapper.readTree(event.getPayload()) : objectMapper.createObjectNode();
+        } catch (JsonProcessingException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+    
+    private static Map<String, Object> stats(String field, int change) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("type", "stats");
+        stats.put(field, change);
+        return stats;
+    }
+    
+    /**
+     * Fold a newer delta into a queued one with the same key
+     */
+    private static void merge(Map<String, Object> queued, Map<String, Object> newer) {
+        if (newer.containsKey("occupied")) {
+            // Absolute occupancy supersedes queued increments
+            queued.remove("occupied_delta");
+        }
+        newer.forEach((field, value) -> {
+            if ("occupied_delta".equals(field) && queued.containsKey("occupied")) {
+                queued.put("occupied", ((Number) queued.get("occupied")).intValue() + ((Number) value).intValue());
+            } else if (ADDITIVE_FIELDS.contains(field) && queued.get(field) instanceof Number current) {
+                queued.put(field, current.intValue() + ((Number) value).intValue());
+            } else {
+                queued.put(field, value);
+            }
+        });
+    }
+    
+    /**
+     * One connected dashboard with its coalescing queue
+     */
+    private class Client {
+        private final SseEmitter emitter;
+        private final Map<String, Map<String, Object>> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean draining;
+        
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+        
+        void offer(String key, Map<String, Object> delta) {
+            synchronized (this) {
+                if (overflowed) {
+                    return;
+                }
+                Map<String, Object> queued = pending.get(key);
+                if (queued != null) {
+                    merge(queued, delta);
+                } else if (pending.size() >= maxBufferedDeltas) {
+                    // Too far behind to catch up with deltas
+                    pending.clear();
+                    overflowed = true;
+                } else {
+                    pending.put(key, new LinkedHashMap<>(delta));
+                }
+                
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+        }
+        
+        private void drain() {
+            while (true) {
+                List<Map<String, Object>> batch;
+                boolean resync;
+                synchronized (this) {
+                    if (pending.isEmpty() && !overflowed) {
+                        draining = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    resync = overflowed;
+                    pending.clear();
+                    overflowed = false;
+                }
+                
+                try {
+                    if (resync) {
+                        emitter.send(SseEmitter.event().name("resync").data("{}"));
+                    } else {
+                        emitter.send(SseEmitter.event().name("delta").data(batch));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected; stop queueing for it
+                    clients.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
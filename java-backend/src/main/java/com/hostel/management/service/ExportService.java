@@ -0,0 +1,78 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hostel.management.repository.RoomAllocationRepository;
+import com.hostel.management.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for streaming newline-delimited JSON exports straight from a database cursor
+ */
+@Service
+public class ExportService {
+    
+    // Rows written between explicit flushes of the response stream
+    private static final int FLUSH_EVERY = 500;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private RoomAllocationRepository roomAllocationRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Write every student (with preferences) as one JSON object per line
+     */
+    @Transactional(readOnly = true)
+    public long writeStudents(OutputStream out) throws IOException {
+        try (Stream<?> rows = studentRepository.streamAllForExport()) {
+            return writeNdjson(rows, out);
+        }
+    }
+    
+    /**
+     * Write every allocation (with student and room columns) as one JSON object per line
+     */
+    @Transactional(readOnly = true)
+    public long writeAllocations(OutputStream out) throws IOException {
+        try (Stream<?> rows = roomAllocationRepository.streamAllForExport()) {
+            return writeNdjson(rows, out);
+        }
+    }
+    
+    private long writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        
+        return count;
+    }
+}
@@ -0,0 +1,211 @@
+package com.hostel.management.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Database-backed leases so a job runs on only one application instance at a time.
+ *
+ * The lease row is claimed with a conditional UPDATE that only succeeds when the
+ * lease is free or expired, then kept alive by a heartbeat while the job runs. A
+ * node that dies mid-job stops heartbeating and its lease expires after the TTL.
+ * Lease statements run outside the job's transaction so they commit immediately,
+ * on the maintenance pool when one is configured (see ReadWriteRoutingConfig).
+ *
+ * A heartbeat that updates no row means the lease expired and another node may have
+ * claimed it. Heartbeats then stop, and the job's own transaction is fenced: jobs call
+ * {@link #assertHeld()} before committing, which touches the lease row with the job's
+ * id in that transaction and rolls it back if the row belongs to someone else.
+ */
+@Service
+public class JobLeaseService {
+    
+    public static final String ROOM_ALLOCATION = "room_allocation";
+    
+    public static final String OCCUPANCY_RECONCILIATION = "occupancy_reconciliation";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    // Lease statements; the application pool unless a maintenance pool exists
+    private JdbcTemplate leaseJdbcTemplate;
+    
+    @Autowired(required = false)
+    @Qualifier("maintenanceDataSource")
+    private DataSource maintenanceDataSource;
+    
+    @Value("${hostel.lease.ttl:PT60S}")
+    private Duration ttl;
+    
+    @Value("${hostel.node-id:}")
+    private String configuredNodeId;
+    
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Lease held by the job running on this thread, for the fencing check
+    private final ThreadLocal<HeldLease> currentLease = new ThreadLocal<>();
+    
+    @PostConstruct
+    public void init() {
+        leaseJdbcTemplate = maintenanceDataSource != null ? new JdbcTemplate(maintenanceDataSource) : jdbcTemplate;
+    }
+    
+    /**
+     * Run the job if this node can take the lease, otherwise report who holds it
+     */
+    public <T> LeaseOutcome<T> runExclusively(String leaseName, Supplier<T> job) {
+        String jobId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        
+        int claimed = leaseJdbcTemplate.update(
+            "UPDATE job_leases SET owner = ?, job_id = ?, acquired_at = ?, heartbeat_at = ?, expires_at = ? " +
+            "WHERE name = ? AND (owner IS NULL OR expires_at < ?)",
+            nodeId(), jobId, Timestamp.from(now), Timestamp.from(now), Timestamp.from(now.plus(ttl)),
+            leaseName, Timestamp.from(now));
+        
+        if (claimed == 0) {
+            List<Map<String, Object>> holder = leaseJdbcTemplate.queryForList(
+                "SELECT owner, job_id FROM job_leases WHERE name = ?", leaseName);
+            if (holder.isEmpty()) {
+                throw new IllegalStateException("Unknown job lease: " + leaseName);
+            }
+            return LeaseOutcome.busy((String) holder.get(0).get("job_id"), (String) holder.get(0).get("owner"));
+        }
+        
+        HeldLease lease = new HeldLease(leaseName, jobId);
+        long interval = Math.max(1000, ttl.toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+            () -> renew(lease), interval, interval, TimeUnit.MILLISECONDS);
+        currentLease.set(lease);
+        try {
+            return LeaseOutcome.completed(jobId, nodeId(), job.get());
+        } finally {
+            currentLease.remove();
+            heartbeat.cancel(false);
+            leaseJdbcTemplate.update(
+                "UPDATE job_leases SET owner = NULL, job_id = NULL, expires_at = NULL WHERE name = ? AND job_id = ?",
+                leaseName, jobId);
+        }
+    }
+    
+    /**
+     * Fencing check for the job running on this thread: call inside the job's transaction
+     * just before it commits. Touching the lease row in that transaction also holds it
+     * until commit, so no other node can claim the lease in between.
+     */
+    public void assertHeld() {
+        HeldLease lease = currentLease.get();
+        if (lease == null) {
+            return;
+        }
+        if (!lease.lost) {
+            int touched = jdbcTemplate.update(
+                "UPDATE job_leases SET heartbeat_at = ? WHERE name = ? AND job_id = ?",
+                Timestamp.from(Instant.now()), lease.name, lease.jobId);
+            lease.lost = touched == 0;
+        }
+        if (lease.lost) {
+            throw new LeaseLostException(lease.name, lease.jobId);
+        }
+    }
+    
+    private void renew(HeldLease lease) {
+        int renewed;
+        try {
+            Instant now = Instant.now();
+            renewed = leaseJdbcTemplate.update(
+                "UPDATE job_leases SET heartbeat_at = ?, expires_at = ? WHERE name = ? AND job_id = ?",
+                Timestamp.from(now), Timestamp.from(now.plus(ttl)), lease.name, lease.jobId);
+        } catch (Exception e) {
+            // The next heartbeat retries; the lease only lapses after the full TTL
+            System.err.println("Failed to renew job lease " + lease.name + ": " + e.getMessage());
+            return;
+        }
+        
+        if (renewed == 0) {
+            // Expired and possibly claimed elsewhere; the job fails its fencing check.
+            // Throwing also stops this heartbeat from being scheduled again.
+            lease.lost = true;
+            System.err.println("Lost job lease " + lease.name + " for job " + lease.jobId);
+            throw new LeaseLostException(lease.name, lease.jobId);
+        }
+    }
+    
+    private String nodeId() {
+        return configuredNodeId.isEmpty() ? ManagementFactory.getRuntimeMXBean().getName() : configuredNodeId;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+    
+    // Helper classes
+    private static class HeldLease {
+        private final String name;
+        private final String jobId;
+        private volatile boolean lost;
+        
+        HeldLease(String name, String jobId) {
+            this.name = name;
+            this.jobId = jobId;
+        }
+    }
+    
+    public static class LeaseLostException extends RuntimeException {
+        public LeaseLostException(String leaseName, String jobId) {
+            super("Job lease " + leaseName + " expired before job " + jobId + " finished; its changes were rolled back");
+        }
+    }
+    
+    public static class LeaseOutcome<T> {
+        private boolean acquired;
+        private String jobId;
+        private String owner;
+        private T result;
+        
+        private LeaseOutcome(boolean acquired, String jobId, String owner, T result) {
+            this.acquired = acquired;
+            this.jobId = jobId;
+            this.owner = owner;
+            this.result = result;
+        }
+        
+        static <T> LeaseOutcome<T> completed(String jobId, String owner, T result) {
+            return new LeaseOutcome<>(true, jobId, owner, result);
+        }
+        
+        static <T> LeaseOutcome<T> busy(String jobId, String owner) {
+            return new LeaseOutcome<>(false, jobId, owner, null);
+        }
+        
+        // Getters
+        public boolean isAcquired() { return acquired; }
+        public String getJobId() { return jobId; }
+        public String getOwner() { return owner; }
+        public T getResult() { return result; }
+    }
+}
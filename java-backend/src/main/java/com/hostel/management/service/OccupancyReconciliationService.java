@@ -0,0 +1,155 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.hostel.management.entity.Room;
+import com.hostel.management.service.TableVersionService.Table;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the denormalized rooms.occupied counter in line with active room_allocations rows.
+ *
+ * One GROUP BY query finds every drifted room; only those rows are corrected, in a single
+ * JDBC batch. Each update is conditional on the occupancy value that was read, so a room
+ * changed by a concurrent allocation is left alone and picked up by the next run.
+ */
+@Service
+public class OccupancyReconciliationService {
+    
+    private static final String DRIFT_SQL =
+        "SELECT r.id, r.room_number, r.occupied, COALESCE(a.active_count, 0) " +
+        "FROM rooms r LEFT JOIN (" +
+        "  SELECT room_id, COUNT(*) AS active_count FROM room_allocations " +
+        "  WHERE status = 'active' GROUP BY room_id" +
+        ") a ON a.room_id = r.id " +
+        "WHERE r.occupied <> COALESCE(a.active_count, 0)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    /**
+     * Scheduled run; skipped when another node holds the reconciliation lease
+     */
+    @Scheduled(cron = "${hostel.reconciliation.cron:0 */10 * * * *}")
+    public void scheduledReconcile() {
+        JobLeaseService.LeaseOutcome<ReconciliationReport> outcome =
+            jobLeaseService.runExclusively(JobLeaseService.OCCUPANCY_RECONCILIATION, this::reconcile);
+        
+        if (outcome.isAcquired() && !outcome.getResult().getDrifts().isEmpty()) {
+            ReconciliationReport report = outcome.getResult();
+            System.out.println("Occupancy reconciliation: corrected " + report.getCorrected() +
+                " rooms, skipped " + report.getSkipped() + ", total drift " + report.getTotalDrift());
+        }
+    }
+    
+    /**
+     * Find and correct occupancy drift
+     */
+    public ReconciliationReport reconcile() {
+        List<RoomDrift> drifts = jdbcTemplate.query(DRIFT_SQL, (rs, rowNum) -> new RoomDrift(
+            rs.getLong(1), rs.getString(2), rs.getInt(3), rs.getInt(4)));
+        
+        if (drifts.isEmpty()) {
+            return new ReconciliationReport(drifts, 0);
+        }
+        
+        List<Object[]> batch = new ArrayList<>(drifts.size());
+        for (RoomDrift drift : drifts) {
+            batch.add(new Object[] {drift.getActual(), drift.roomId, drift.getRecorded()});
+        }
+        
+        // Corrections and their outbox events commit together
+        int corrected = transactionTemplate.execute(status -> {
+            int[] updated = jdbcTemplate.batchUpdate("UPDATE rooms SET occupied = ? WHERE id = ? AND occupied = ?", batch);
+            
+            List<Map<String, Object>> events = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+                if (updated[i] != 0) {
+                    RoomDrift drift = drifts.get(i);
+                    Map<String, Object> event = new LinkedHashMap<>();
+                    event.put("id", drift.roomId);
+                    event.put("room_number", drift.getRoomNumber());
+                    event.put("recorded", drift.getRecorded());
+                    event.put("occupied", drift.getActual());
+                    events.add(event);
+                }
+            }
+            outboxService.recordAll("room", OutboxService.ROOM_OCCUPANCY_CORRECTED, events);
+            jobLeaseService.assertHeld();
+            
+            // JDBC updates bypass Hibernate, so invalidate room ETags once for the batch
+            tableVersionService.bump(Table.ROOMS);
+            return events.size();
+        });
+        
+        entityManagerFactory.getCache().evict(Room.class);
+        
+        return new ReconciliationReport(drifts, corrected);
+    }
+    
+    // Helper classes
+    public static class ReconciliationReport {
+        private List<RoomDrift> drifts;
+        private int corrected;
+        
+        public ReconciliationReport(List<RoomDrift> drifts, int corrected) {
+            this.drifts = drifts;
+            this.corrected = corrected;
+        }
+        
+        // Getters
+        public List<RoomDrift> getDrifts() { return drifts; }
+        public int getCorrected() { return corrected; }
+        public int getSkipped() { return drifts.size() - corrected; }
+        public int getTotalDrift() {
+            return drifts.stream().mapToInt(d -> Math.abs(d.getRecorded() - d.getActual())).sum();
+        }
+    }
+    
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class RoomDrift {
+        private long roomId;
+        private String roomNumber;
+        private int recorded;
+        private int actual;
+        
+        public RoomDrift(long roomId, String roomNumber, int recorded, int actual) {
+            this.roomId = roomId;
+            this.roomNumber = roomNumber;
+            this.recorded = recorded;
+            this.actual = actual;
+        }
+        
+        // Getters
+        public long getRoomId() { return roomId; }
+        public String getRoomNumber() { return roomNumber; }
+        public int getRecorded() { return recorded; }
+        public int getActual() { return actual; }
+    }
+}
@@ -0,0 +1,288 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transactional outbox for allocation, room, student and preferences changes.
+ *
+ * Writers call {@link #record} inside the transaction that makes the change, so an
+ * event exists if and only if the change committed. Each node polls the table in id
+ * order and delivers new events to its {@link OutboxSubscriber} beans.
+ *
+ * Ids are reserved when the insert is flushed, which can be long before a large
+ * transaction commits, so a gap in the ids says nothing about whether that event will
+ * arrive. Skipped ids are remembered and looked up again on every poll; an event that
+ * commits late is delivered then, after newer ones, which is still commit order.
+ * A skipped id is forgotten after hostel.outbox.gap-timeout, which must exceed the
+ * longest write transaction: by then its transaction has rolled back (a failed edit,
+ * a fenced allocation run) or the id was never used (an identity-cache jump). Polling uses the maintenance pool
+ * when one is configured, so it does not wait behind a long job on a single writer.
+ */
+@Service
+public class OutboxService {
+    
+    public static final String ALLOCATION_CREATED = "allocation.created";
+    public static final String ALLOCATION_UPDATED = "allocation.updated";
+    public static final String ALLOCATION_RELEASED = "allocation.released";
+    public static final String ROOM_CREATED = "room.created";
+    public static final String ROOM_UPDATED = "room.updated";
+    public static final String ROOM_DELETED = "room.deleted";
+    public static final String ROOM_OCCUPANCY_CORRECTED = "room.occupancy_corrected";
+    public static final String PREFERENCES_CHANGED = "preferences.changed";
+    public static final String STUDENT_REGISTERED = "student.registered";
+    public static final String SNAPSHOT_RESTORED = "snapshot.restored";
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+    
+    private static final String SELECT_SQL =
+        "SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at FROM outbox_events ";
+    
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> new OutboxEvent(
+        rs.getLong("id"),
+        rs.getString("aggregate_type"),
+        rs.getObject("aggregate_id", Long.class),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("created_at").toLocalDateTime());
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired(required = false)
+    @Qualifier("maintenanceDataSource")
+    private DataSource maintenanceDataSource;
+    
+    // Reads outside writers' transactions; the application pool unless a maintenance pool exists
+    private JdbcTemplate pollJdbcTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ObjectProvider<OutboxSubscriber> subscribers;
+    
+    @Value("${hostel.outbox.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${hostel.outbox.retention:PT24H}")
+    private Duration retention;
+    
+    @Value("${hostel.outbox.gap-timeout:PT5M}")
+    private Duration gapTimeout;
+    
+    @Value("${hostel.outbox.max-pending-ids:10000}")
+    private int maxPendingIds;
+    
+    // Poller state, only touched under pollLock; a ReentrantLock rather than synchronized
+    // because polling runs JDBC, which would pin a virtual thread's carrier
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private boolean started;
+    private long lastId;
+    
+    // Ids below lastId not seen yet (uncommitted or rolled back), oldest first, with when they were skipped
+    private final Map<Long, Long> pendingIds = new LinkedHashMap<>();
+    
+    @PostConstruct
+    public void init() {
+        pollJdbcTemplate = maintenanceDataSource != null ? new JdbcTemplate(maintenanceDataSource) : jdbcTemplate;
+    }
+    
+    /**
+     * Write an event in the caller's transaction
+     */
+    public void record(String aggregateType, Long aggregateId, String eventType, Map<String, ?> payload) {
+        jdbcTemplate.update(INSERT_SQL, aggregateType, aggregateId, eventType, toJson(payload), Timestamp.from(Instant.now()));
+    }
+    
+    /**
+     * Write several events of one type in a single JDBC batch
+     */
+    public void recordAll(String aggregateType, String eventType, List<? extends Map<String, ?>> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(payloads.size());
+        for (Map<String, ?> payload : payloads) {
+            Object id = payload.get("id");
+            batch.add(new Object[] {aggregateType, id instanceof Number ? ((Number) id).longValue() : null,
+                eventType, toJson(payload), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+    
+    /**
+     * Start delivering from the current end of the outbox; subscribers load their
+     * initial state themselves and only need changes from here on
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        pollLock.lock();
+        try {
+            Long maxId = pollJdbcTemplate.queryForObject("SELECT MAX(id) FROM outbox_events", Long.class);
+            lastId = maxId != null ? maxId : 0;
+            started = true;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+    
+    /**
+     * Deliver events committed since the last poll, including ones whose ids were skipped earlier
+     */
+    @Scheduled(fixedDelayString = "${hostel.outbox.poll-interval:500}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (!started) {
+                return;
+            }
+            
+            List<OutboxEvent> events;
+            do {
+                events = pollJdbcTemplate.query(SELECT_SQL + "WHERE id > ? ORDER BY id LIMIT ?", EVENT_MAPPER, lastId, batchSize);
+                
+                long now = System.nanoTime();
+                for (OutboxEvent event : events) {
+                    for (long id = Math.max(lastId + 1, event.getId() - maxPendingIds); id < event.getId(); id++) {
+                        pendingIds.put(id, now);
+                    }
+                    dispatch(event);
+                    lastId = event.getId();
+                }
+            } while (events.size() == batchSize);
+            
+            deliverLateCommits();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+    
+    /**
+     * Drop events every node has long since delivered
+     */
+    @Scheduled(cron = "${hostel.outbox.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE created_at < ?", Timestamp.from(Instant.now().minus(retention)));
+    }
+    
+    /**
+     * Id of the last delivered event
+     */
+    public long getLastDeliveredId() {
+        pollLock.lock();
+        try {
+            return lastId;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+    
+    /**
+     * Look up skipped ids again and deliver the events that have committed since
+     */
+    private void deliverLateCommits() {
+        if (pendingIds.isEmpty()) {
+            return;
+        }
+        
+        List<Long> ids = new ArrayList<>(pendingIds.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            List<OutboxEvent> late = pollJdbcTemplate.query(
+                SELECT_SQL + "WHERE id IN (" + placeholders + ") ORDER BY id", EVENT_MAPPER, chunk.toArray());
+            for (OutboxEvent event : late) {
+                pendingIds.remove(event.getId());
+                dispatch(event);
+            }
+        }
+        
+        // No write transaction runs longer than the gap timeout, so the id was rolled back or never used
+        long cutoff = System.nanoTime() - gapTimeout.toNanos();
+        pendingIds.values().removeIf(skippedAt -> skippedAt - cutoff <= 0);
+        
+        Iterator<Long> oldest = pendingIds.keySet().iterator();
+        while (pendingIds.size() > maxPendingIds && oldest.hasNext()) {
+            System.err.println("Outbox: giving up on skipped event id " + oldest.next());
+            oldest.remove();
+        }
+    }
+    
+    private void dispatch(OutboxEvent event) {
+        subscribers.orderedStream().forEach(subscriber -> {
+            try {
+                subscriber.onEvent(event);
+            } catch (RuntimeException e) {
+                // One failing subscriber must not stall delivery to the others
+                System.err.println("Outbox subscriber " + subscriber.getClass().getSimpleName() +
+                    " failed on event " + event.getId() + ": " + e.getMessage());
+            }
+        });
+    }
+    
+    private String toJson(Map<String, ?> payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload is not serializable", e);
+        }
+    }
+    
+    // Helper classes
+    public static class OutboxEvent {
+        private long id;
+        private String aggregateType;
+        private Long aggregateId;
+        private String eventType;
+        private String payload;
+        private LocalDateTime createdAt;
+        
+        public OutboxEvent(long id, String aggregateType, Long aggregateId, String eventType,
+                           String payload, LocalDateTime createdAt) {
+            this.id = id;
+            this.aggregateType = aggregateType;
+            this.aggregateId = aggregateId;
+            this.eventType = eventType;
+            this.payload = payload;
+            this.createdAt = createdAt;
+        }
+        
+        // Getters
+        public long getId() { return id; }
+        public String getAggregateType() { return aggregateType; }
+        public Long getAggregateId() { return aggregateId; }
+        public String getEventType() { return eventType; }
+        public String getPayload() { return payload; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,13 @@
+package com.hostel.management.service;
+
+/**
+ * In-process consumer of outbox events, e.g. a cache, index or stats counter that
+ * updates incrementally instead of rescanning tables.
+ *
+ * Events are delivered in commit order on the outbox poller thread, so
+ * implementations should return quickly.
+ */
+public interface OutboxSubscriber {
+    
+    void onEvent(OutboxService.OutboxEvent event);
+}
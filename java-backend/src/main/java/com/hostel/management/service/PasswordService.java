@@ -0,0 +1,124 @@
+package com.hostel.management.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt hashing and verification on a dedicated, bounded executor.
+ *
+ * Hashing is CPU bound, so the pool is sized to the cores and backed by a short
+ * queue. Once both are full, new requests fail immediately with a
+ * {@link RejectedExecutionException} instead of tying up more request threads.
+ */
+@Service
+public class PasswordService {
+    
+    private final BCryptPasswordEncoder encoder;
+    
+    private final int encoderStrength;
+    
+    private final ThreadPoolExecutor executor;
+    
+    public PasswordService(@Value("${hostel.security.bcrypt-strength:10}") int strength,
+                           @Value("${hostel.security.hashing-threads:0}") int threads,
+                           @Value("${hostel.security.hashing-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.encoderStrength = strength;
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Hash a raw password at the configured cost
+     */
+    public String encode(String rawPassword) {
+        return call(() -> encoder.encode(rawPassword));
+    }
+    
+    /**
+     * Hash a batch of raw passwords in parallel at the given cost.
+     * The batch is split into one slice per pool thread but one, so a bulk
+     * import never fills the queue that interactive logins rely on.
+     */
+    public List<String> encodeAll(List<String> rawPasswords, int strength) {
+        BCryptPasswordEncoder batchEncoder = strength == encoderStrength ? encoder : new BCryptPasswordEncoder(strength);
+        int slices = Math.max(1, Math.min(executor.getCorePoolSize() - 1, rawPasswords.size()));
+        int sliceSize = (rawPasswords.size() + slices - 1) / slices;
+        
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int start = 0; start < rawPasswords.size(); start += sliceSize) {
+            List<String> slice = rawPasswords.subList(start, Math.min(start + sliceSize, rawPasswords.size()));
+            futures.add(executor.submit(() -> {
+                List<String> hashes = new ArrayList<>(slice.size());
+                for (String raw : slice) {
+                    hashes.add(batchEncoder.encode(raw));
+                }
+                return hashes;
+            }));
+        }
+        
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (Future<List<String>> future : futures) {
+            hashes.addAll(await(future));
+        }
+        return hashes;
+    }
+    
+    /**
+     * Verify a raw password against a stored hash
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * Whether a stored hash was produced with a lower cost than the configured one
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+    
+    private <T> T call(Callable<T> task) {
+        return await(executor.submit(task));
+    }
+    
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,135 @@
+package com.hostel.management.service;
+
+import com.hostel.management.service.TableVersionService.Table;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service for saving student preferences with a single MERGE statement keyed on the student
+ * (INSERT ... ON CONFLICT on SQLite, which has no MERGE)
+ */
+@Service
+public class PreferencesService {
+    
+    // Request field -> student_preferences column (same names)
+    private static final List<String> COLUMNS = List.of(
+        "sleep_time", "wake_time", "study_preference", "noise_tolerance", "cleanliness_level",
+        "social_preference", "music_preference", "visitor_frequency", "temperature_preference",
+        "dietary_preferences", "interests", "additional_notes"
+    );
+    
+    private static final String MERGE_SQL = buildMergeSql();
+    
+    private static final String SQLITE_UPSERT_SQL = buildSqliteUpsertSql();
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    private String upsertSql = MERGE_SQL;
+    
+    @PostConstruct
+    public void selectUpsertSql() {
+        String product = namedParameterJdbcTemplate.getJdbcTemplate()
+            .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("SQLite".equalsIgnoreCase(product)) {
+            upsertSql = SQLITE_UPSERT_SQL;
+        }
+    }
+    
+    /**
+     * Insert or update a student's preferences in one round trip.
+     * Returns false when the stored preferences already matched, in which case nothing is written.
+     */
+    @Transactional
+    public boolean savePreferences(Long studentId, Map<String, String> request) {
+        MapSqlParameterSource params = new MapSqlParameterSource("student_id", studentId)
+            .addValue("created_at", Timestamp.valueOf(LocalDateTime.now()));
+        for (String column : COLUMNS) {
+            params.addValue(column, request.get(column));
+        }
+        
+        boolean changed = namedParameterJdbcTemplate.update(upsertSql, params) > 0;
+        if (changed) {
+            // Native write bypasses JPA entity listeners
+            tableVersionService.bump(Table.STUDENTS);
+            
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("student_id", studentId);
+            for (String column : COLUMNS) {
+                payload.put(column, request.get(column));
+            }
+            outboxService.record("student", studentId, OutboxService.PREFERENCES_CHANGED, payload);
+        }
+        return changed;
+    }
+    
+    /**
+     * MERGE that inserts new preferences, updates changed ones (bumping preferences_version)
+     * and leaves identical ones untouched. Text columns are cast so CLOB values compare.
+     */
+    private static String buildMergeSql() {
+        String values = COLUMNS.stream()
+            .map(c -> "CAST(:" + c + " AS VARCHAR)")
+            .collect(Collectors.joining(", "));
+        String changed = COLUMNS.stream()
+            .map(c -> "CAST(p." + c + " AS VARCHAR) IS DISTINCT FROM v." + c)
+            .collect(Collectors.joining(" OR "));
+        String updates = COLUMNS.stream()
+            .map(c -> c + " = v." + c)
+            .collect(Collectors.joining(", "));
+        String columns = String.join(", ", COLUMNS);
+        String insertValues = COLUMNS.stream()
+            .map(c -> "v." + c)
+            .collect(Collectors.joining(", "));
+        
+        return "MERGE INTO student_preferences p " +
+               "USING (VALUES (CAST(:student_id AS BIGINT), " + values + ")) " +
+               "AS v(student_id, " + columns + ") " +
+               "ON p.student_id = v.student_id " +
+               "WHEN MATCHED AND (" + changed + ") THEN UPDATE SET " + updates + ", " +
+               "preferences_version = COALESCE(p.preferences_version, 0) + 1 " +
+               "WHEN NOT MATCHED THEN INSERT (student_id, " + columns + ", created_at, preferences_version) " +
+               "VALUES (v.student_id, " + insertValues + ", CURRENT_TIMESTAMP, 1)";
+    }
+    
+    /**
+     * SQLite equivalent of the MERGE: the conditional DO UPDATE leaves identical rows
+     * untouched, so the update count is 0 exactly when nothing changed
+     */
+    private static String buildSqliteUpsertSql() {
+        String columns = String.join(", ", COLUMNS);
+        String values = COLUMNS.stream()
+            .map(c -> ":" + c)
+            .collect(Collectors.joining(", "));
+        String updates = COLUMNS.stream()
+            .map(c -> c + " = excluded." + c)
+            .collect(Collectors.joining(", "));
+        String changed = COLUMNS.stream()
+            .map(c -> "student_preferences." + c + " IS NOT excluded." + c)
+            .collect(Collectors.joining(" OR "));
+        
+        return "INSERT INTO student_preferences (student_id, " + columns + ", created_at, preferences_version) " +
+               "VALUES (:student_id, " + values + ", :created_at, 1) " +
+               "ON CONFLICT (student_id) DO UPDATE SET " + updates + ", " +
+               "preferences_version = COALESCE(student_preferences.preferences_version, 0) + 1 " +
+               "WHERE " + changed;
+    }
+}
@@ -0,0 +1,145 @@
+package com.hostel.management.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory Bloom filters over existing student IDs and emails.
+ *
+ * Registration only needs the exists* queries when a filter says "maybe present";
+ * a negative answer is definite. The filters are per instance and only a shortcut -
+ * the unique constraints on students remain the source of truth, so a registration
+ * racing another one (or another instance) is still rejected by the database.
+ */
+@Service
+public class RegistrationFilterService {
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${hostel.registration.filter-expected-students:100000}")
+    private int expectedStudents;
+    
+    @Value("${hostel.registration.filter-false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    // Until the filters are built every lookup answers "maybe present"
+    private volatile BloomFilter studentIds;
+    private volatile BloomFilter emails;
+    
+    /**
+     * Build both filters from the students table once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM students", Long.class);
+        long capacity = Math.max(expectedStudents, 2 * (count != null ? count : 0));
+        BloomFilter ids = new BloomFilter(capacity, falsePositiveRate);
+        BloomFilter mails = new BloomFilter(capacity, falsePositiveRate);
+        
+        jdbcTemplate.query("SELECT student_id, email FROM students", (RowCallbackHandler) rs -> {
+            ids.add(rs.getString(1));
+            mails.add(rs.getString(2));
+        });
+        
+        this.studentIds = ids;
+        this.emails = mails;
+    }
+    
+    public boolean mightContainStudentId(String studentId) {
+        BloomFilter filter = studentIds;
+        return filter == null || filter.mightContain(studentId);
+    }
+    
+    public boolean mightContainEmail(String email) {
+        BloomFilter filter = emails;
+        return filter == null || filter.mightContain(email);
+    }
+    
+    /**
+     * Record a newly inserted student
+     */
+    public void add(String studentId, String email) {
+        BloomFilter ids = studentIds;
+        BloomFilter mails = emails;
+        if (ids != null) {
+            ids.add(studentId);
+        }
+        if (mails != null) {
+            mails.add(email);
+        }
+    }
+    
+    /**
+     * Lock-free Bloom filter using double hashing over a mixed 64-bit FNV-1a hash
+     */
+    private static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+        }
+        
+        void add(String value) {
+            if (value == null) {
+                return;
+            }
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // retry until the bit is set
+                }
+            }
+        }
+        
+        boolean mightContain(String value) {
+            if (value == null) {
+                return false;
+            }
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            // Murmur3 finalizer so both 32-bit halves are well mixed
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.hostel.management.entity.RoomAllocation;
 import com.hostel.management.repository.StudentRepository;
 import com.hostel.management.repository.RoomRepository;
 import com.hostel.management.repository.RoomAllocationRepository;
+import com.hostel.management.service.TableVersionService.Table;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +30,12 @@ public class RoomAllocationService {
     @Autowired
     private RoomAllocationRepository roomAllocationRepository;
     
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
     // Compatibility weights for different preferences
     private static final Map<String, Double> PREFERENCE_WEIGHTS = Map.of(
         "sleepTime", 0.15,
@@ -60,8 +67,7 @@ public class RoomAllocationService {
                              ", Has Room Allocation: " + (s.getRoomAllocation() != null));
         }
         
-        // Get all students and filter manually to avoid JPQL issues
-        List<Student> allStudents = studentRepository.findAll();
+        // Filter students manually to avoid JPQL issues
         List<Student> unallocatedStudents = new ArrayList<>();
         
         for (Student student : allStudents) {
@@ -77,7 +83,8 @@ public class RoomAllocationService {
         
         System.out.println("DEBUG: Found " + unallocatedStudents.size() + " students with preferences but no allocation");
         
-        List<Room> availableRooms = roomRepository.findAvailableRooms();
+        // Read-only: occupancy is changed with conditional SQL updates, never by flushing these entities
+        List<Room> availableRooms = roomRepository.findAvailableRoomsForAllocation();
         System.out.println("DEBUG: Available rooms: " + availableRooms.size());
         
         // Check all rooms for debugging
@@ -110,19 +117,27 @@ public class RoomAllocationService {
         unallocatedStudents.sort(Comparator.comparing(Student::getCreatedAt));
         
         for (Student student : unallocatedStudents) {
-            RoomCompatibility bestMatch = findBestRoom(student, availableRooms);
-            
-            if (bestMatch != null && bestMatch.getCompatibilityScore() >= MINIMUM_COMPATIBILITY_SCORE) {
+            while (true) {
+                RoomCompatibility bestMatch = findBestRoom(student, availableRooms);
+                
+                if (bestMatch == null || bestMatch.getCompatibilityScore() < MINIMUM_COMPATIBILITY_SCORE) {
+                    break;
+                }
+                
                 Room room = bestMatch.getRoom();
                 
+                // Claim a bed atomically; if a concurrent allocator or an admin edit filled
+                // the room meanwhile, drop it and search again for this student
+                if (!occupyRoom(room)) {
+                    availableRooms.remove(room);
+                    continue;
+                }
+                room.setOccupied(room.getOccupied() + 1);
+                
                 // Create allocation
                 RoomAllocation allocation = new RoomAllocation(student, room, bestMatch.getCompatibilityScore());
                 roomAllocationRepository.save(allocation);
                 
-                // Update room occupancy
-                room.setOccupied(room.getOccupied() + 1);
-                roomRepository.save(room);
-                
                 // Add to details
                 allocationDetails.add(new AllocationDetail(
                     student.getName(),
@@ -137,15 +152,33 @@ public class RoomAllocationService {
                 if (room.getOccupied() >= room.getCapacity()) {
                     availableRooms.remove(room);
                 }
+                break;
             }
         }
         
         String message = String.format("Successfully allocated %d out of %d students", 
                                      allocatedCount, unallocatedStudents.size());
         
+        // Roll back rather than commit if the allocation lease lapsed during the run
+        jobLeaseService.assertHeld();
+        
         return new AllocationResult(allocatedCount, unallocatedStudents.size(), allocationDetails, message);
     }
     
+    /**
+     * Increment a room's occupancy only if it still has space. A lock timeout is not
+     * retried here: it marks the whole allocation transaction rollback-only, and runs
+     * are already exclusive through the allocation lease.
+     */
+    private boolean occupyRoom(Room room) {
+        boolean occupied = roomRepository.incrementOccupiedIfAvailable(room.getId()) == 1;
+        if (occupied) {
+            // Bulk update bypasses JPA entity listeners
+            tableVersionService.bump(Table.ROOMS);
+        }
+        return occupied;
+    }
+    
     /**
      * Find the best room for a student based on compatibility
      */
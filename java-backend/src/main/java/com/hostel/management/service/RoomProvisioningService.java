@@ -0,0 +1,133 @@
+package com.hostel.management.service;
+
+import com.hostel.management.dto.RoomBatchRequest;
+import com.hostel.management.dto.RoomBatchRequest.RoomSpec;
+import com.hostel.management.service.TableVersionService.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service for provisioning many rooms at once with one uniqueness query and JDBC batch inserts
+ */
+@Service
+public class RoomProvisioningService {
+    
+    private static final int MAX_ROOMS_PER_REQUEST = 5000;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO rooms (room_number, building, floor, capacity, occupied, amenities, status) " +
+        "VALUES (?, ?, ?, ?, 0, ?, 'available')";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    /**
+     * Expand the request into individual rooms
+     */
+    public List<RoomSpec> expand(RoomBatchRequest request) {
+        List<RoomSpec> rooms = new ArrayList<>();
+        
+        if (request.getRooms() != null) {
+            rooms.addAll(request.getRooms());
+        }
+        
+        if (request.getBuilding() != null && request.getRoomFrom() != null && request.getRoomTo() != null) {
+            int floorFrom = request.getFloorFrom() != null ? request.getFloorFrom() : 1;
+            int floorTo = request.getFloorTo() != null ? request.getFloorTo() : floorFrom;
+            String prefix = request.getPrefix() != null ? request.getPrefix() : "";
+            String roomFormat = request.getRoomTo() >= 100 ? "%s%d%03d" : "%s%d%02d";
+            
+            for (int floor = floorFrom; floor <= floorTo; floor++) {
+                for (int room = request.getRoomFrom(); room <= request.getRoomTo(); room++) {
+                    if (rooms.size() >= MAX_ROOMS_PER_REQUEST) {
+                        throw new IllegalArgumentException("At most " + MAX_ROOMS_PER_REQUEST + " rooms per request");
+                    }
+                    rooms.add(new RoomSpec(String.format(roomFormat, prefix, floor, room),
+                        request.getBuilding(), floor, request.getCapacity(), request.getAmenities()));
+                }
+            }
+        }
+        
+        if (rooms.size() > MAX_ROOMS_PER_REQUEST) {
+            throw new IllegalArgumentException("At most " + MAX_ROOMS_PER_REQUEST + " rooms per request");
+        }
+        return rooms;
+    }
+    
+    /**
+     * Room numbers that are missing, repeated in the request or already taken
+     */
+    public List<String> findConflicts(List<RoomSpec> rooms) {
+        List<String> conflicts = new ArrayList<>();
+        Set<String> numbers = new HashSet<>();
+        
+        for (RoomSpec room : rooms) {
+            if (room.getRoomNumber() == null || room.getRoomNumber().isBlank() || room.getBuilding() == null) {
+                throw new IllegalArgumentException("Room number and building are required for every room");
+            }
+            if (!numbers.add(room.getRoomNumber())) {
+                conflicts.add(room.getRoomNumber());
+            }
+        }
+        
+        if (!numbers.isEmpty()) {
+            conflicts.addAll(namedParameterJdbcTemplate.queryForList(
+                "SELECT room_number FROM rooms WHERE room_number IN (:numbers)",
+                new MapSqlParameterSource("numbers", numbers),
+                String.class));
+        }
+        return conflicts;
+    }
+    
+    /**
+     * Insert all rooms in JDBC batches within one transaction
+     */
+    @Transactional
+    public int createRooms(List<RoomSpec> rooms) {
+        List<Object[]> batch = new ArrayList<>(rooms.size());
+        List<Map<String, Object>> events = new ArrayList<>(rooms.size());
+        for (RoomSpec room : rooms) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("room_number", room.getRoomNumber());
+            event.put("building", room.getBuilding());
+            event.put("floor", room.getFloor());
+            event.put("capacity", room.getCapacity() != null ? room.getCapacity() : 2);
+            events.add(event);
+            
+            batch.add(new Object[] {
+                room.getRoomNumber(),
+                room.getBuilding(),
+                room.getFloor(),
+                room.getCapacity() != null ? room.getCapacity() : 2,
+                room.getAmenities()
+            });
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        
+        // Inserts bypass JPA entity listeners, so invalidate room ETags once for the whole batch
+        tableVersionService.bump(Table.ROOMS);
+        outboxService.recordAll("room", OutboxService.ROOM_CREATED, events);
+        return batch.size();
+    }
+}
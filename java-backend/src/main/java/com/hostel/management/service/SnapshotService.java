@@ -0,0 +1,510 @@
+package com.hostel.management.service;
+
+import com.hostel.management.service.TableVersionService.Table;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compact binary snapshots of students, preferences, rooms and allocations.
+ *
+ * File layout: a header (magic, format version, creation time, table count), then per
+ * table its name and column descriptors followed by length-prefixed blocks of up to
+ * ROWS_PER_BLOCK rows. Inside a block the data is column-oriented: for each column a
+ * null bitmap and then the fixed-width values, or lengths plus UTF-8 bytes for text.
+ * A block with zero rows ends a table. Timestamps are stored as microseconds of the
+ * local date-time, so they restore unchanged regardless of time zone.
+ *
+ * Restores map the file read-only and bulk-load each block with one JDBC batch,
+ * replacing the four tables in a single transaction. Row ids are preserved.
+ */
+@Service
+public class SnapshotService {
+    
+    private static final int MAGIC = 0x48534E50; // "HSNP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int ROWS_PER_BLOCK = 8192;
+    
+    enum Type { LONG, INT, DOUBLE, STRING, TIMESTAMP }
+    
+    // Parents before children: restore inserts in this order and deletes in reverse
+    private static final List<TableSpec> TABLES = List.of(
+        new TableSpec("students",
+            col("id", Type.LONG), col("student_id", Type.STRING), col("name", Type.STRING),
+            col("email", Type.STRING), col("phone", Type.STRING), col("password_hash", Type.STRING),
+            col("course", Type.STRING), col("study_year", Type.INT), col("gender", Type.STRING),
+            col("created_at", Type.TIMESTAMP)),
+        new TableSpec("student_preferences",
+            col("id", Type.LONG), col("student_id", Type.LONG), col("sleep_time", Type.STRING),
+            col("wake_time", Type.STRING), col("study_preference", Type.STRING), col("noise_tolerance", Type.STRING),
+            col("cleanliness_level", Type.STRING), col("social_preference", Type.STRING),
+            col("music_preference", Type.STRING), col("visitor_frequency", Type.STRING),
+            col("temperature_preference", Type.STRING), col("dietary_preferences", Type.STRING),
+            col("interests", Type.STRING), col("additional_notes", Type.STRING),
+            col("created_at", Type.TIMESTAMP), col("preferences_version", Type.LONG)),
+        new TableSpec("rooms",
+            col("id", Type.LONG), col("room_number", Type.STRING), col("capacity", Type.INT),
+            col("occupied", Type.INT), col("floor", Type.INT), col("building", Type.STRING),
+            col("amenities", Type.STRING), col("status", Type.STRING)),
+        new TableSpec("room_allocations",
+            col("id", Type.LONG), col("student_id", Type.LONG), col("room_id", Type.LONG),
+            col("allocation_date", Type.TIMESTAMP), col("status", Type.STRING),
+            col("compatibility_score", Type.DOUBLE))
+    );
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private RegistrationFilterService registrationFilter;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
+    /**
+     * Write a consistent snapshot of all four tables to a file
+     * (SERIALIZABLE gives the four reads one snapshot on both H2 and SQLite)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    public Map<String, Long> write(Path file) throws IOException {
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(20);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(System.currentTimeMillis()).putInt(TABLES.size());
+            writeFully(channel, header.flip());
+            
+            for (TableSpec table : TABLES) {
+                writeFully(channel, table.encodeDescriptor());
+                
+                BlockBuilder block = new BlockBuilder(table);
+                long[] rows = {0};
+                try {
+                    jdbcTemplate.query("SELECT " + table.columnList() + " FROM " + table.name + " ORDER BY id",
+                        (RowCallbackHandler) rs -> {
+                            block.add(rs);
+                            rows[0]++;
+                            if (block.size() == ROWS_PER_BLOCK) {
+                                writeBlock(channel, block);
+                            }
+                        });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                if (block.size() > 0) {
+                    writeBlock(channel, block);
+                }
+                // Empty block ends the table
+                writeFully(channel, ByteBuffer.allocate(8).putInt(4).putInt(0).flip());
+                rowCounts.put(table.name, rows[0]);
+            }
+            channel.force(false);
+        }
+        return rowCounts;
+    }
+    
+    /**
+     * Replace students, preferences, rooms and allocations with the snapshot's contents
+     */
+    public Map<String, Long> restore(Path file) throws IOException {
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new CorruptSnapshotException("Snapshot larger than 2 GB cannot be mapped in one piece");
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            
+            if (data.remaining() < 20 || data.getInt() != MAGIC) {
+                throw new CorruptSnapshotException("Not a hostel snapshot file");
+            }
+            int version = data.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new CorruptSnapshotException("Unsupported snapshot format version " + version);
+            }
+            data.getLong(); // creation time
+            if (data.getInt() != TABLES.size()) {
+                throw new CorruptSnapshotException("Snapshot does not contain the expected tables");
+            }
+            
+            transactionTemplate.executeWithoutResult(status -> {
+                List<TableSpec> reversed = new ArrayList<>(TABLES);
+                Collections.reverse(reversed);
+                reversed.forEach(table -> jdbcTemplate.update("DELETE FROM " + table.name));
+                
+                for (TableSpec table : TABLES) {
+                    rowCounts.put(table.name, loadTable(data, table));
+                }
+                outboxService.record("snapshot", null, OutboxService.SNAPSHOT_RESTORED, rowCounts);
+                
+                // The restore runs under the allocation lease; do not commit if it lapsed
+                jobLeaseService.assertHeld();
+            });
+        }
+        
+        resetIdentities();
+        
+        // Everything changed underneath Hibernate, the ETags and the registration filters
+        entityManagerFactory.getCache().evictAll();
+        tableVersionService.bump(Table.STUDENTS);
+        tableVersionService.bump(Table.ROOMS);
+        tableVersionService.bump(Table.ALLOCATIONS);
+        registrationFilter.rebuild();
+        
+        return rowCounts;
+    }
+    
+    private long loadTable(ByteBuffer data, TableSpec table) {
+        table.verifyDescriptor(data);
+        
+        String placeholders = table.columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+        String sql = "INSERT INTO " + table.name + " (" + table.columnList() + ") VALUES (" + placeholders + ")";
+        
+        long total = 0;
+        while (true) {
+            int length = data.getInt();
+            if (length < 4 || length > data.remaining()) {
+                throw new CorruptSnapshotException("Corrupt block length " + length + " in table " + table.name);
+            }
+            ByteBuffer block = data.slice(data.position(), length);
+            data.position(data.position() + length);
+            
+            int rows = block.getInt();
+            if (rows < 0 || rows > ROWS_PER_BLOCK) {
+                throw new CorruptSnapshotException("Corrupt row count " + rows + " in table " + table.name);
+            }
+            if (rows == 0) {
+                return total;
+            }
+            Object[][] columns = new Object[table.columns.size()][];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = decodeColumn(block, table.columns.get(c).type, rows);
+            }
+            
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int row) throws SQLException {
+                    for (int c = 0; c < columns.length; c++) {
+                        bind(ps, c + 1, table.columns.get(c).type, columns[c][row]);
+                    }
+                }
+                
+                @Override
+                public int getBatchSize() {
+                    return rows;
+                }
+            });
+            total += rows;
+        }
+    }
+    
+    /**
+     * Restored rows keep their ids, so H2 identity columns must continue after them.
+     * Runs after the load commits because H2 DDL ends the current transaction.
+     * SQLite's rowid ids already continue from the largest id.
+     */
+    private void resetIdentities() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equalsIgnoreCase(product)) {
+            return;
+        }
+        for (TableSpec table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table.name, Long.class);
+            long next = (maxId != null ? maxId : 0) + 1;
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+    
+    private void writeBlock(FileChannel channel, BlockBuilder block) {
+        try {
+            writeFully(channel, block.encode());
+            block.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Lengths come from the file, so they are checked before anything is allocated:
+     * a corrupt snapshot must fail with CorruptSnapshotException, not NegativeArraySizeException
+     */
+    static Object[] decodeColumn(ByteBuffer block, Type type, int rows) {
+        byte[] nulls = new byte[(rows + 7) / 8];
+        block.get(nulls);
+        
+        Object[] values = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            boolean isNull = (nulls[row >> 3] & (1 << (row & 7))) != 0;
+            Object value = switch (type) {
+                case LONG -> block.getLong();
+                case INT -> block.getInt();
+                case DOUBLE -> block.getDouble();
+                case TIMESTAMP -> fromMicros(block.getLong());
+                case STRING -> {
+                    int length = block.getInt();
+                    if (length < 0 || length > block.remaining()) {
+                        throw new CorruptSnapshotException("Corrupt string length " + length);
+                    }
+                    byte[] bytes = new byte[length];
+                    block.get(bytes);
+                    yield new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+            values[row] = isNull ? null : value;
+        }
+        return values;
+    }
+    
+    private static void bind(PreparedStatement ps, int index, Type type, Object value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, switch (type) {
+                case LONG -> Types.BIGINT;
+                case INT -> Types.INTEGER;
+                case DOUBLE -> Types.DOUBLE;
+                case TIMESTAMP -> Types.TIMESTAMP;
+                case STRING -> Types.VARCHAR;
+            });
+            return;
+        }
+        switch (type) {
+            case LONG -> ps.setLong(index, (Long) value);
+            case INT -> ps.setInt(index, (Integer) value);
+            case DOUBLE -> ps.setDouble(index, (Double) value);
+            case TIMESTAMP -> ps.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+            case STRING -> ps.setString(index, (String) value);
+        }
+    }
+    
+    private static long toMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+    
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+    
+    static ColumnSpec col(String name, Type type) {
+        return new ColumnSpec(name, type);
+    }
+    
+    // Helper classes
+    static class ColumnSpec {
+        private final String name;
+        private final Type type;
+        
+        ColumnSpec(String name, Type type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+    
+    static class TableSpec {
+        private final String name;
+        private final List<ColumnSpec> columns;
+        
+        TableSpec(String name, ColumnSpec... columns) {
+            this.name = name;
+            this.columns = List.of(columns);
+        }
+        
+        String columnList() {
+            return columns.stream().map(c -> c.name).collect(Collectors.joining(", "));
+        }
+        
+        /**
+         * Table name, column count, then each column's name and type
+         */
+        ByteBuffer encodeDescriptor() {
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            putShortString(buffer, name);
+            buffer.putShort((short) columns.size());
+            for (ColumnSpec column : columns) {
+                putShortString(buffer, column.name);
+                buffer.put((byte) column.type.ordinal());
+            }
+            return buffer.flip();
+        }
+        
+        void verifyDescriptor(ByteBuffer data) {
+            String tableName = getShortString(data);
+            int columnCount = data.getShort();
+            boolean matches = name.equals(tableName) && columnCount == columns.size();
+            for (int i = 0; i < columnCount; i++) {
+                String columnName = getShortString(data);
+                int type = data.get();
+                matches &= i < columns.size() && columns.get(i).name.equals(columnName)
+                    && columns.get(i).type.ordinal() == type;
+            }
+            if (!matches) {
+                throw new CorruptSnapshotException("Snapshot layout of table " + tableName + " does not match " + name);
+            }
+        }
+        
+        private static void putShortString(ByteBuffer buffer, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+        
+        private static String getShortString(ByteBuffer buffer) {
+            int length = buffer.getShort();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new CorruptSnapshotException("Corrupt name length " + length);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+    
+    /**
+     * Accumulates up to ROWS_PER_BLOCK rows column by column
+     */
+    static class BlockBuilder {
+        private final TableSpec table;
+        private final List<List<Object>> columns = new ArrayList<>();
+        
+        BlockBuilder(TableSpec table) {
+            this.table = table;
+            for (int i = 0; i < table.columns.size(); i++) {
+                columns.add(new ArrayList<>(ROWS_PER_BLOCK));
+            }
+        }
+        
+        int size() {
+            return columns.get(0).size();
+        }
+        
+        void clear() {
+            columns.forEach(List::clear);
+        }
+        
+        void add(ResultSet rs) throws SQLException {
+            for (int c = 0; c < columns.size(); c++) {
+                int index = c + 1;
+                Object value = switch (table.columns.get(c).type) {
+                    case LONG -> rs.getLong(index);
+                    case INT -> rs.getInt(index);
+                    case DOUBLE -> rs.getDouble(index);
+                    case STRING -> rs.getString(index);
+                    case TIMESTAMP -> {
+                        Timestamp timestamp = rs.getTimestamp(index);
+                        yield timestamp != null ? timestamp.toLocalDateTime() : null;
+                    }
+                };
+                columns.get(c).add(rs.wasNull() ? null : value);
+            }
+        }
+        
+        /**
+         * Block length, row count, then per column a null bitmap and the values
+         */
+        ByteBuffer encode() {
+            int rows = size();
+            List<byte[][]> text = new ArrayList<>();
+            int length = 4;
+            for (int c = 0; c < columns.size(); c++) {
+                length += (rows + 7) / 8;
+                Type type = table.columns.get(c).type;
+                if (type == Type.STRING) {
+                    byte[][] encoded = new byte[rows][];
+                    for (int row = 0; row < rows; row++) {
+                        Object value = columns.get(c).get(row);
+                        encoded[row] = value != null ? ((String) value).getBytes(StandardCharsets.UTF_8) : new byte[0];
+                        length += 4 + encoded[row].length;
+                    }
+                    text.add(encoded);
+                } else {
+                    length += rows * (type == Type.INT ? 4 : 8);
+                    text.add(null);
+                }
+            }
+            
+            ByteBuffer buffer = ByteBuffer.allocate(4 + length);
+            buffer.putInt(length).putInt(rows);
+            for (int c = 0; c < columns.size(); c++) {
+                List<Object> values = columns.get(c);
+                byte[] nulls = new byte[(rows + 7) / 8];
+                for (int row = 0; row < rows; row++) {
+                    if (values.get(row) == null) {
+                        nulls[row >> 3] |= (byte) (1 << (row & 7));
+                    }
+                }
+                buffer.put(nulls);
+                
+                for (int row = 0; row < rows; row++) {
+                    Object value = values.get(row);
+                    switch (table.columns.get(c).type) {
+                        case LONG -> buffer.putLong(value != null ? (Long) value : 0L);
+                        case INT -> buffer.putInt(value != null ? (Integer) value : 0);
+                        case DOUBLE -> buffer.putDouble(value != null ? (Double) value : 0.0);
+                        case TIMESTAMP -> buffer.putLong(value != null ? toMicros((LocalDateTime) value) : 0L);
+                        case STRING -> {
+                            byte[] bytes = text.get(c)[row];
+                            buffer.putInt(bytes.length).put(bytes);
+                        }
+                    }
+                }
+            }
+            return buffer.flip();
+        }
+    }
+    
+    /**
+     * The uploaded file is not a valid snapshot; the restore endpoint reports it as a client error
+     */
+    public static class CorruptSnapshotException extends RuntimeException {
+        public CorruptSnapshotException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.management.entity.Student;
+import com.hostel.management.service.TableVersionService.Table;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Streaming bulk import of students from CSV (with a header row) or JSON Lines.
+ *
+ * The upload is read line by line and processed in chunks: each chunk is checked
+ * against existing student IDs and emails with one set-based query, its passwords
+ * are hashed in parallel, and the rows are written with a single JDBC batch.
+ */
+@Service
+public class StudentImportService {
+    
+    private static final int CHUNK_SIZE = 1000;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO students (student_id, name, email, phone, password_hash, course, study_year, gender, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private PasswordService passwordService;
+    
+    @Autowired
+    private TableVersionService tableVersionService;
+    
+    @Autowired
+    private RegistrationFilterService registrationFilter;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    // Imported hashes may use a lower cost; they are upgraded on the student's first login
+    @Value("${hostel.security.import-bcrypt-strength:${hostel.security.bcrypt-strength:10}}")
+    private int importStrength;
+    
+    /**
+     * Import students from a stream; jsonLines selects JSON Lines instead of CSV
+     */
+    public ImportResult importStudents(InputStream in, boolean jsonLines) throws IOException {
+        ImportResult result = new ImportResult();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        
+        String[] header = null;
+        if (!jsonLines) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return result;
+            }
+            header = parseCsvLine(headerLine);
+            for (int i = 0; i < header.length; i++) {
+                header[i] = header[i].trim().toLowerCase();
+            }
+        }
+        
+        // Row numbers are 1-based over data rows, excluding the CSV header
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        int rowNumber = 0;
+        String line;
+        
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            result.totalRows++;
+            
+            Map<String, String> fields;
+            try {
+                fields = jsonLines ? parseJsonLine(line) : toFields(header, parseCsvLine(line));
+            } catch (Exception e) {
+                result.addError(rowNumber, null, "Malformed row: " + e.getMessage());
+                continue;
+            }
+            
+            ImportRow row = new ImportRow(rowNumber, fields);
+            String error = row.validate(validator);
+            if (error == null && !seenIds.add(row.studentId)) {
+                error = "Duplicate student ID in upload";
+            }
+            if (error == null && !seenEmails.add(row.email)) {
+                error = "Duplicate email in upload";
+            }
+            if (error != null) {
+                result.addError(rowNumber, row.studentId, error);
+                continue;
+            }
+            
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        
+        if (result.imported > 0) {
+            tableVersionService.bump(Table.STUDENTS);
+        }
+        return result;
+    }
+    
+    private void importChunk(List<ImportRow> chunk, ImportResult result) {
+        // One set-based lookup for every student ID and email in the chunk
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", chunk.stream().map(r -> r.studentId).toList())
+            .addValue("emails", chunk.stream().map(r -> r.email).toList());
+        Set<String> existingIds = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        namedParameterJdbcTemplate.query(
+            "SELECT student_id, email FROM students WHERE student_id IN (:ids) OR email IN (:emails)",
+            params,
+            (RowCallbackHandler) rs -> {
+                existingIds.add(rs.getString(1));
+                existingEmails.add(rs.getString(2));
+            });
+        
+        List<ImportRow> fresh = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingIds.contains(row.studentId)) {
+                result.addError(row.rowNumber, row.studentId, "Student ID already exists");
+            } else if (existingEmails.contains(row.email)) {
+                result.addError(row.rowNumber, row.studentId, "Email already exists");
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+        
+        List<String> hashes = passwordService.encodeAll(fresh.stream().map(r -> r.password).toList(), importStrength);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            batch.add(fresh.get(i).toInsertArgs(hashes.get(i), now));
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                outboxService.recordAll("student", OutboxService.STUDENT_REGISTERED,
+                    fresh.stream().map(ImportRow::registeredEvent).toList());
+            });
+            result.imported += fresh.size();
+            fresh.forEach(row -> registrationFilter.add(row.studentId, row.email));
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration - retry row by row to report the culprit
+            for (int i = 0; i < fresh.size(); i++) {
+                ImportRow row = fresh.get(i);
+                Object[] args = batch.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.update(INSERT_SQL, args);
+                        outboxService.record("student", null, OutboxService.STUDENT_REGISTERED, row.registeredEvent());
+                    });
+                    result.imported++;
+                    registrationFilter.add(row.studentId, row.email);
+                } catch (DataIntegrityViolationException rowError) {
+                    result.addError(row.rowNumber, row.studentId, "Student ID or email already exists");
+                }
+            }
+        }
+    }
+    
+    private Map<String, String> parseJsonLine(String line) throws IOException {
+        Map<String, Object> raw = objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {});
+        Map<String, String> fields = new HashMap<>();
+        raw.forEach((key, value) -> fields.put(key.toLowerCase(), value == null ? null : value.toString()));
+        return fields;
+    }
+    
+    private static Map<String, String> toFields(String[] header, String[] values) {
+        if (values.length > header.length) {
+            throw new IllegalArgumentException("expected " + header.length + " columns, found " + values.length);
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            fields.put(header[i], values[i]);
+        }
+        return fields;
+    }
+    
+    /**
+     * Split one CSV line, honouring double-quoted fields and doubled quotes inside them
+     */
+    private static String[] parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values.toArray(new String[0]);
+    }
+    
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+    
+    // Helper classes
+    private static class ImportRow {
+        private final int rowNumber;
+        private final String studentId;
+        private final String name;
+        private final String email;
+        private final String phone;
+        private final String password;
+        private final String course;
+        private final String year;
+        private final String gender;
+        
+        ImportRow(int rowNumber, Map<String, String> fields) {
+            this.rowNumber = rowNumber;
+            this.studentId = blankToNull(fields.get("student_id"));
+            this.name = blankToNull(fields.get("name"));
+            this.email = blankToNull(fields.get("email"));
+            this.phone = blankToNull(fields.get("phone"));
+            this.password = fields.get("password");
+            this.course = blankToNull(fields.get("course"));
+            this.year = blankToNull(fields.get("year"));
+            this.gender = blankToNull(fields.get("gender"));
+        }
+        
+        /**
+         * Applies the Student entity constraints that /api/register enforces on persist;
+         * the JDBC batch insert bypasses them, so each row is checked before it is queued.
+         * The raw password stands in for the hash, as it does when the entity is built.
+         */
+        String validate(Validator validator) {
+            if (studentId == null || name == null || email == null || password == null || password.isEmpty()) {
+                return "Required fields are missing";
+            }
+            if (year != null) {
+                try {
+                    Integer.parseInt(year);
+                } catch (NumberFormatException e) {
+                    return "Invalid year: " + year;
+                }
+            }
+            
+            Student student = new Student();
+            student.setStudentId(studentId);
+            student.setName(name);
+            student.setEmail(email);
+            student.setPhone(phone);
+            student.setPasswordHash(password);
+            student.setCourse(course);
+            student.setYear(year != null ? Integer.parseInt(year) : null);
+            student.setGender(gender);
+            
+            Set<ConstraintViolation<Student>> violations = validator.validate(student);
+            if (violations.isEmpty()) {
+                return null;
+            }
+            List<String> messages = new ArrayList<>();
+            for (ConstraintViolation<Student> violation : violations) {
+                messages.add(violation.getMessage());
+            }
+            Collections.sort(messages);
+            return String.join("; ", messages);
+        }
+        
+        Object[] toInsertArgs(String passwordHash, Timestamp createdAt) {
+            return new Object[] {
+                studentId, name, email, phone, passwordHash, course,
+                year != null ? Integer.valueOf(year) : null, gender, createdAt
+            };
+        }
+        
+        Map<String, Object> registeredEvent() {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("student_id", studentId);
+            event.put("name", name);
+            event.put("course", course);
+            return event;
+        }
+    }
+    
+    public static class ImportResult {
+        private int totalRows;
+        private int imported;
+        private List<RowError> errors = new ArrayList<>();
+        
+        void addError(int row, String studentId, String message) {
+            errors.add(new RowError(row, studentId, message));
+        }
+        
+        // Getters
+        public int getTotalRows() { return totalRows; }
+        public int getImported() { return imported; }
+        public List<RowError> getErrors() { return errors; }
+    }
+    
+    public static class RowError {
+        private int row;
+        private String studentId;
+        private String message;
+        
+        public RowError(int row, String studentId, String message) {
+            this.row = row;
+            this.studentId = studentId;
+            this.message = message;
+        }
+        
+        // Getters
+        public int getRow() { return row; }
+        public String getStudentId() { return studentId; }
+        public String getMessage() { return message; }
+    }
+}
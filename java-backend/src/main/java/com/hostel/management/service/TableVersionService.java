@@ -0,0 +1,124 @@
+package com.hostel.management.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap per-table version counters used to derive ETags for polled read APIs.
+ *
+ * Counters are bumped after the writing transaction commits, so a version is
+ * never observed together with data that is not yet visible. Writes made on other
+ * nodes reach this node through the outbox, which every such write records, so
+ * another node's change shows up in this node's ETags within one outbox poll.
+ */
+@Service
+public class TableVersionService implements OutboxSubscriber {
+    
+    public enum Table { ROOMS, STUDENTS, ALLOCATIONS }
+    
+    // Distinguishes counters from a previous run of the application
+    private final long epoch = System.currentTimeMillis();
+    
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+    
+    // Wall-clock time of the last bump, so reads can avoid a replica that is not past it yet
+    private volatile long lastChangeMillis;
+    
+    public TableVersionService() {
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+        }
+    }
+    
+    /**
+     * Current version of a table
+     */
+    public long get(Table table) {
+        return versions.get(table).get();
+    }
+    
+    /**
+     * When a table version last changed (0 if never since startup)
+     */
+    public long getLastChangeMillis() {
+        return lastChangeMillis;
+    }
+    
+    /**
+     * Record a write to a table; deferred to commit when a transaction is active
+     */
+    @SuppressWarnings("unchecked")
+    public void bump(Table table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(EnumSet.of(table));
+            return;
+        }
+        
+        Set<Table> pending = (Set<Table>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Table> tables = EnumSet.noneOf(Table.class);
+            TransactionSynchronizationManager.bindResource(this, tables);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(tables);
+                }
+                
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TableVersionService.this);
+                }
+            });
+            pending = tables;
+        }
+        pending.add(table);
+    }
+    
+    /**
+     * Bump the tables an outbox event describes; covers writes from every node
+     */
+    @Override
+    public void onEvent(OutboxService.OutboxEvent event) {
+        switch (event.getEventType()) {
+            // Allocations move room occupancy with them
+            case OutboxService.ALLOCATION_CREATED, OutboxService.ALLOCATION_UPDATED, OutboxService.ALLOCATION_RELEASED ->
+                increment(EnumSet.of(Table.ALLOCATIONS, Table.ROOMS));
+            case OutboxService.ROOM_CREATED, OutboxService.ROOM_UPDATED, OutboxService.ROOM_DELETED,
+                 OutboxService.ROOM_OCCUPANCY_CORRECTED ->
+                increment(EnumSet.of(Table.ROOMS));
+            case OutboxService.STUDENT_REGISTERED, OutboxService.PREFERENCES_CHANGED ->
+                increment(EnumSet.of(Table.STUDENTS));
+            case OutboxService.SNAPSHOT_RESTORED ->
+                increment(EnumSet.allOf(Table.class));
+            default -> {
+                // Not behind any ETag
+            }
+        }
+    }
+    
+    /**
+     * Weak ETag over the given tables; the variant distinguishes query parameters
+     */
+    public String etag(String variant, Table... tables) {
+        StringBuilder tag = new StringBuilder("W/\"").append(Long.toHexString(epoch));
+        for (Table table : tables) {
+            tag.append('-').append(get(table));
+        }
+        if (variant != null && !variant.isEmpty()) {
+            tag.append('-').append(Integer.toHexString(variant.hashCode()));
+        }
+        return tag.append('"').toString();
+    }
+    
+    private void increment(Set<Table> tables) {
+        tables.forEach(table -> versions.get(table).incrementAndGet());
+        lastChangeMillis = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,62 @@
+-- SQLite variant of db/migration/V1__baseline_schema.sql (profile "sqlite").
+-- Keep both migration sets in step: every version there has a counterpart here.
+-- Timestamps are stored as epoch milliseconds, sqlite-jdbc's default binding.
+
+CREATE TABLE IF NOT EXISTS admin (
+    id              INTEGER PRIMARY KEY,
+    username        VARCHAR(255) NOT NULL UNIQUE,
+    password_hash   VARCHAR(255) NOT NULL,
+    email           VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS students (
+    id              INTEGER PRIMARY KEY,
+    student_id      VARCHAR(255) NOT NULL UNIQUE,
+    name            VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    phone           VARCHAR(255),
+    password_hash   VARCHAR(255) NOT NULL,
+    course          VARCHAR(255),
+    study_year      INTEGER,
+    gender          VARCHAR(255),
+    created_at      TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id              INTEGER PRIMARY KEY,
+    room_number     VARCHAR(255) NOT NULL UNIQUE,
+    capacity        INTEGER NOT NULL,
+    occupied        INTEGER NOT NULL,
+    floor           INTEGER,
+    building        VARCHAR(255),
+    amenities       TEXT,
+    status          VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS student_preferences (
+    id                      INTEGER PRIMARY KEY,
+    student_id              BIGINT NOT NULL UNIQUE REFERENCES students (id),
+    sleep_time              VARCHAR(255),
+    wake_time               VARCHAR(255),
+    study_preference        VARCHAR(255),
+    noise_tolerance         VARCHAR(255),
+    cleanliness_level       VARCHAR(255),
+    social_preference       VARCHAR(255),
+    music_preference        VARCHAR(255),
+    visitor_frequency       VARCHAR(255),
+    temperature_preference  VARCHAR(255),
+    dietary_preferences     VARCHAR(255),
+    interests               TEXT,
+    additional_notes        TEXT,
+    created_at              TIMESTAMP,
+    preferences_version     BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS room_allocations (
+    id                  INTEGER PRIMARY KEY,
+    student_id          BIGINT NOT NULL UNIQUE REFERENCES students (id),
+    room_id             BIGINT NOT NULL REFERENCES rooms (id),
+    allocation_date     TIMESTAMP,
+    status              VARCHAR(255) NOT NULL,
+    compatibility_score REAL
+);
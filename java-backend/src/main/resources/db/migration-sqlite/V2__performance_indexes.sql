@@ -0,0 +1,6 @@
+-- Indexes for the hot repository queries, see db/migration/V2__performance_indexes.sql
+
+CREATE INDEX IF NOT EXISTS idx_room_allocations_room_status ON room_allocations (room_id, status);
+CREATE INDEX IF NOT EXISTS idx_room_allocations_status ON room_allocations (status);
+CREATE INDEX IF NOT EXISTS idx_rooms_status_occupancy ON rooms (status, occupied, capacity);
+CREATE INDEX IF NOT EXISTS idx_students_created_at ON students (created_at);
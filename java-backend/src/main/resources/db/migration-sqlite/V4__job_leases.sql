@@ -0,0 +1,13 @@
+-- Cluster-wide leases for jobs that must run on one node at a time.
+-- A lease is free when owner is NULL or expires_at has passed.
+
+CREATE TABLE IF NOT EXISTS job_leases (
+    name            VARCHAR(64) PRIMARY KEY,
+    owner           VARCHAR(128),
+    job_id          VARCHAR(64),
+    acquired_at     TIMESTAMP,
+    heartbeat_at    TIMESTAMP,
+    expires_at      TIMESTAMP
+);
+
+INSERT INTO job_leases (name) SELECT 'room_allocation' WHERE NOT EXISTS (SELECT 1 FROM job_leases WHERE name = 'room_allocation');
@@ -0,0 +1,3 @@
+-- Lease for the scheduled occupancy reconciliation job
+
+INSERT INTO job_leases (name) SELECT 'occupancy_reconciliation' WHERE NOT EXISTS (SELECT 1 FROM job_leases WHERE name = 'occupancy_reconciliation');
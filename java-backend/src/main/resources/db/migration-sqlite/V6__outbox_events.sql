@@ -0,0 +1,13 @@
+-- Transactional outbox, see db/migration/V6__outbox_events.sql.
+-- AUTOINCREMENT keeps ids from being reused after old events are purged.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              INTEGER PRIMARY KEY AUTOINCREMENT,
+    aggregate_type  VARCHAR(32) NOT NULL,
+    aggregate_id    BIGINT,
+    event_type      VARCHAR(64) NOT NULL,
+    payload         TEXT,
+    created_at      TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created_at ON outbox_events (created_at);
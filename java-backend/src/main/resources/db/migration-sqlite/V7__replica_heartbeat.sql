@@ -0,0 +1,9 @@
+-- Heartbeat for the replica staleness bound, see db/migration/V7__replica_heartbeat.sql.
+-- Seeded at epoch 0 so a new reader counts as stale until the first heartbeat.
+
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id              INTEGER PRIMARY KEY,
+    written_at      TIMESTAMP NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, written_at) SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM replica_heartbeat WHERE id = 1);
@@ -0,0 +1,61 @@
+-- Baseline schema, equivalent to what Hibernate ddl-auto=update used to create.
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS admin (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username        VARCHAR(255) NOT NULL UNIQUE,
+    password_hash   VARCHAR(255) NOT NULL,
+    email           VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS students (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_id      VARCHAR(255) NOT NULL UNIQUE,
+    name            VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    phone           VARCHAR(255),
+    password_hash   VARCHAR(255) NOT NULL,
+    course          VARCHAR(255),
+    study_year      INTEGER,
+    gender          VARCHAR(255),
+    created_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_number     VARCHAR(255) NOT NULL UNIQUE,
+    capacity        INTEGER NOT NULL,
+    occupied        INTEGER NOT NULL,
+    floor           INTEGER,
+    building        VARCHAR(255),
+    amenities       TEXT,
+    status          VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS student_preferences (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_id              BIGINT NOT NULL UNIQUE REFERENCES students (id),
+    sleep_time              VARCHAR(255),
+    wake_time               VARCHAR(255),
+    study_preference        VARCHAR(255),
+    noise_tolerance         VARCHAR(255),
+    cleanliness_level       VARCHAR(255),
+    social_preference       VARCHAR(255),
+    music_preference        VARCHAR(255),
+    visitor_frequency       VARCHAR(255),
+    temperature_preference  VARCHAR(255),
+    dietary_preferences     VARCHAR(255),
+    interests               TEXT,
+    additional_notes        TEXT,
+    created_at              TIMESTAMP(6),
+    preferences_version     BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS room_allocations (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_id          BIGINT NOT NULL UNIQUE REFERENCES students (id),
+    room_id             BIGINT NOT NULL REFERENCES rooms (id),
+    allocation_date     TIMESTAMP(6),
+    status              VARCHAR(255) NOT NULL,
+    compatibility_score FLOAT(53)
+);
@@ -0,0 +1,13 @@
+-- Indexes for the hot repository queries:
+--   room_allocations(room_id, status)  findByRoomAndStatus during allocation scoring
+--   room_allocations(status)           active allocation counts / averages, allocation listing filter
+--   rooms(status, occupied, capacity)  findAvailableRooms, available room counts
+--   students(created_at)               first-come-first-served ordering of unallocated students
+
+-- Databases baselined from ddl-auto=update may predate this column
+ALTER TABLE student_preferences ADD COLUMN IF NOT EXISTS preferences_version BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_room_allocations_room_status ON room_allocations (room_id, status);
+CREATE INDEX IF NOT EXISTS idx_room_allocations_status ON room_allocations (status);
+CREATE INDEX IF NOT EXISTS idx_rooms_status_occupancy ON rooms (status, occupied, capacity);
+CREATE INDEX IF NOT EXISTS idx_students_created_at ON students (created_at);
@@ -0,0 +1,13 @@
+-- Transactional outbox: domain events written in the same transaction as the change
+-- they describe, polled in id order and handed to in-process subscribers.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type  VARCHAR(32) NOT NULL,
+    aggregate_id    BIGINT,
+    event_type      VARCHAR(64) NOT NULL,
+    payload         VARCHAR(4000),
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created_at ON outbox_events (created_at);
@@ -0,0 +1,10 @@
+-- Heartbeat written on the primary every second; its replicated value tells how far
+-- behind a read replica is (see ReplicaLagMonitor). The seed value marks a new
+-- replica as stale until the first heartbeat reaches it.
+
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id              INTEGER PRIMARY KEY,
+    written_at      TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, written_at) SELECT 1, TIMESTAMP '1970-01-01 00:00:00' WHERE NOT EXISTS (SELECT 1 FROM replica_heartbeat WHERE id = 1);
@@ -0,0 +1,151 @@
+package com.hostel.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxServiceTest {
+    
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OutboxService outboxService;
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:outbox-test;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE outbox_events (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, aggregate_type VARCHAR(32) NOT NULL, " +
+            "aggregate_id BIGINT, event_type VARCHAR(64) NOT NULL, payload VARCHAR(4000), created_at TIMESTAMP(6) NOT NULL)");
+        
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("recorder", (OutboxSubscriber) event -> delivered.add(event.getId()));
+        
+        outboxService = new OutboxService();
+        ReflectionTestUtils.setField(outboxService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(outboxService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(outboxService, "subscribers", beanFactory.getBeanProvider(OutboxSubscriber.class));
+        ReflectionTestUtils.setField(outboxService, "batchSize", 500);
+        ReflectionTestUtils.setField(outboxService, "retention", Duration.ofHours(24));
+        ReflectionTestUtils.setField(outboxService, "gapTimeout", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(outboxService, "maxPendingIds", 10000);
+        outboxService.init();
+        outboxService.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE outbox_events");
+    }
+    
+    @Test
+    void deliversEventCommittedLongAfterItsIdWasReserved() throws Exception {
+        try (Connection slow = dataSource.getConnection()) {
+            // A long transaction reserves id 1 early and commits last
+            slow.setAutoCommit(false);
+            insert(slow);
+            
+            outboxService.record("room", 2L, OutboxService.ROOM_UPDATED, Map.of("id", 2));
+            outboxService.record("room", 3L, OutboxService.ROOM_UPDATED, Map.of("id", 3));
+            
+            // Polls keep running while the id stays missing, well past the old gap wait
+            for (int i = 0; i < 20; i++) {
+                outboxService.poll();
+            }
+            assertEquals(List.of(2L, 3L), delivered);
+            
+            slow.commit();
+        }
+        
+        outboxService.poll();
+        assertEquals(List.of(2L, 3L, 1L), delivered);
+        
+        // Delivered once only
+        outboxService.poll();
+        assertEquals(3, delivered.size());
+    }
+    
+    @Test
+    void forgetsSkippedIdsOlderThanGapTimeout() throws Exception {
+        ReflectionTestUtils.setField(outboxService, "gapTimeout", Duration.ZERO);
+        
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            insert(slow);
+            outboxService.record("room", 2L, OutboxService.ROOM_UPDATED, Map.of("id", 2));
+            outboxService.poll();
+            slow.commit();
+        }
+        
+        outboxService.poll();
+        assertEquals(List.of(2L), delivered);
+    }
+    
+    @Test
+    void dropsRolledBackIdAfterGapTimeout() throws Exception {
+        ReflectionTestUtils.setField(outboxService, "gapTimeout", Duration.ofMillis(200));
+        
+        try (Connection failed = dataSource.getConnection()) {
+            // Reserves id 1, then rolls back, so the id never resolves
+            failed.setAutoCommit(false);
+            insert(failed);
+            outboxService.record("room", 2L, OutboxService.ROOM_UPDATED, Map.of("id", 2));
+            failed.rollback();
+        }
+        
+        outboxService.poll();
+        assertEquals(List.of(2L), delivered);
+        assertEquals(Set.of(1L), pendingIds().keySet());
+        
+        Thread.sleep(300);
+        outboxService.poll();
+        assertTrue(pendingIds().isEmpty());
+        assertEquals(List.of(2L), delivered);
+    }
+    
+    @Test
+    void startsAfterExistingEvents() {
+        outboxService.record("room", 1L, OutboxService.ROOM_CREATED, Map.of("id", 1));
+        outboxService.start();
+        outboxService.record("room", 2L, OutboxService.ROOM_CREATED, Map.of("id", 2));
+        
+        outboxService.poll();
+        assertEquals(List.of(2L), delivered);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> pendingIds() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(outboxService, "pendingIds");
+    }
+    
+    private static void insert(Connection connection) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            statement.setString(1, "allocation");
+            statement.setLong(2, 1L);
+            statement.setString(3, OutboxService.ALLOCATION_CREATED);
+            statement.setString(4, "{}");
+            statement.setTimestamp(5, Timestamp.from(Instant.now()));
+            statement.executeUpdate();
+        }
+    }
+}
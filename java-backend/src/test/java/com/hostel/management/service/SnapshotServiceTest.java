@@ -0,0 +1,79 @@
+package com.hostel.management.service;
+
+import com.hostel.management.service.SnapshotService.BlockBuilder;
+import com.hostel.management.service.SnapshotService.CorruptSnapshotException;
+import com.hostel.management.service.SnapshotService.TableSpec;
+import com.hostel.management.service.SnapshotService.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static com.hostel.management.service.SnapshotService.col;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotServiceTest {
+    
+    private static final TableSpec CODEC = new TableSpec("codec",
+        col("id", Type.LONG), col("beds", Type.INT), col("score", Type.DOUBLE),
+        col("name", Type.STRING), col("created_at", Type.TIMESTAMP));
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:snapshot-test;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE codec (id BIGINT, beds INT, score DOUBLE, name VARCHAR(100), created_at TIMESTAMP(6))");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE codec");
+    }
+    
+    @Test
+    void blockRoundTripsNullsUnicodeAndTimestamps() {
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_000);
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+        jdbcTemplate.update("INSERT INTO codec VALUES (?, ?, ?, ?, ?)", 1L, 7, 1.5, "Zoë 学生 🏠", leapDay);
+        jdbcTemplate.update("INSERT INTO codec VALUES (?, ?, ?, ?, ?)", 2L, null, null, null, null);
+        jdbcTemplate.update("INSERT INTO codec VALUES (?, ?, ?, ?, ?)", 3L, -1, -0.25, "", beforeEpoch);
+        
+        BlockBuilder builder = new BlockBuilder(CODEC);
+        jdbcTemplate.query("SELECT id, beds, score, name, created_at FROM codec ORDER BY id", builder::add);
+        
+        ByteBuffer block = builder.encode();
+        assertEquals(block.remaining() - 4, block.getInt());
+        int rows = block.getInt();
+        assertEquals(3, rows);
+        
+        assertArrayEquals(new Object[] {1L, 2L, 3L}, SnapshotService.decodeColumn(block, Type.LONG, rows));
+        assertArrayEquals(new Object[] {7, null, -1}, SnapshotService.decodeColumn(block, Type.INT, rows));
+        assertArrayEquals(new Object[] {1.5, null, -0.25}, SnapshotService.decodeColumn(block, Type.DOUBLE, rows));
+        // An empty string stays distinct from null
+        assertArrayEquals(new Object[] {"Zoë 学生 🏠", null, ""}, SnapshotService.decodeColumn(block, Type.STRING, rows));
+        assertArrayEquals(new Object[] {leapDay, null, beforeEpoch}, SnapshotService.decodeColumn(block, Type.TIMESTAMP, rows));
+        assertEquals(0, block.remaining());
+    }
+    
+    @Test
+    void rejectsNegativeStringLength() {
+        ByteBuffer block = ByteBuffer.allocate(5).put((byte) 0).putInt(-1).flip();
+        
+        assertThrows(CorruptSnapshotException.class, () -> SnapshotService.decodeColumn(block, Type.STRING, 1));
+    }
+    
+    @Test
+    void rejectsStringLengthPastEndOfBlock() {
+        ByteBuffer block = ByteBuffer.allocate(7).put((byte) 0).putInt(100).put((byte) 'a').put((byte) 'b').flip();
+        
+        assertThrows(CorruptSnapshotException.class, () -> SnapshotService.decodeColumn(block, Type.STRING, 1));
+    }
+}